@@ -416,6 +416,18 @@ public final class OperatorProcessor extends AbstractProcessor {
                 T_SCOPE)
             .build());
 
+    opsBuilder.addMethod(
+        MethodSpec.methodBuilder("withDevice")
+            .addModifiers(Modifier.PUBLIC)
+            .addParameter(T_STRING, "device")
+            .returns(T_OPS)
+            .addStatement("return new Ops(scope.withDevice(device))")
+            .addJavadoc(
+                "Returns an API that places the operations it builds on the provided device.\n\n"
+                    + "@see {@link $T#withDevice(String)}\n",
+                T_SCOPE)
+            .build());
+
     opsBuilder.addField(
         FieldSpec.builder(T_SCOPE, "scope").addModifiers(Modifier.PRIVATE, Modifier.FINAL).build());
 
@@ -61,6 +61,8 @@ const char* exceptionClassName(TF_Code code) {
       return kIndexOutOfBoundsException;
     case TF_UNIMPLEMENTED:
       return kUnsupportedOperationException;
+    case TF_DEADLINE_EXCEEDED:
+      return "org/tensorflow/DeadlineExceededException";
     default:
       return "org/tensorflow/TensorFlowException";
   }
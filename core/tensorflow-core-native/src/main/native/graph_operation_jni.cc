@@ -55,6 +55,13 @@ JNIEXPORT jstring JNICALL Java_org_tensorflow_GraphOperation_type(
   return env->NewStringUTF(TF_OperationOpType(op));
 }
 
+JNIEXPORT jstring JNICALL Java_org_tensorflow_GraphOperation_device(
+    JNIEnv* env, jclass clazz, jlong handle) {
+  TF_Operation* op = requireHandle(env, handle);
+  if (op == nullptr) return nullptr;
+  return env->NewStringUTF(TF_OperationDevice(op));
+}
+
 JNIEXPORT jint JNICALL Java_org_tensorflow_GraphOperation_numOutputs(
     JNIEnv* env, jclass clazz, jlong handle) {
   TF_Operation* op = requireHandle(env, handle);
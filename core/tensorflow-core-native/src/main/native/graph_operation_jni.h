@@ -40,6 +40,15 @@ JNIEXPORT jstring JNICALL Java_org_tensorflow_GraphOperation_type(JNIEnv *,
                                                                   jclass,
                                                                   jlong);
 
+/*
+ * Class:     org_tensorflow_GraphOperation
+ * Method:    device
+ * Signature: (J)Ljava/lang/String;
+ */
+JNIEXPORT jstring JNICALL Java_org_tensorflow_GraphOperation_device(JNIEnv *,
+                                                                    jclass,
+                                                                    jlong);
+
 /*
  * Class:     org_tensorflow_GraphOperation
  * Method:    numOutputs
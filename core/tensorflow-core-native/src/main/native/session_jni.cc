@@ -68,6 +68,27 @@ unique_tf_buffer MakeUniqueBuffer(TF_Buffer* buf) {
   return unique_tf_buffer(buf, TF_MaybeDeleteBuffer);
 }
 
+// Checks that a fetched tensor can replace the tensor provided by the caller
+// to receive it, which must be of the same type and shape.
+bool checkOutputTensor(JNIEnv* env, const TF_Tensor* src, const TF_Tensor* dst,
+                       int index) {
+  bool compatible = TF_TensorType(src) == TF_TensorType(dst) &&
+                    TF_TensorType(src) != TF_STRING &&
+                    TF_NumDims(src) == TF_NumDims(dst) &&
+                    TF_TensorByteSize(src) == TF_TensorByteSize(dst);
+  for (int i = 0; compatible && i < TF_NumDims(src); ++i) {
+    compatible = TF_Dim(src, i) == TF_Dim(dst, i);
+  }
+  if (!compatible) {
+    throwException(env, kIllegalArgumentException,
+                   "fetched output #%d is not compatible with the tensor "
+                   "provided to receive it",
+                   index);
+    return false;
+  }
+  return true;
+}
+
 }  // namespace
 
 JNIEXPORT jlong JNICALL Java_org_tensorflow_Session_allocate(
@@ -129,6 +150,18 @@ JNIEXPORT void JNICALL Java_org_tensorflow_Session_delete(JNIEnv* env,
   TF_DeleteStatus(status);
 }
 
+JNIEXPORT void JNICALL Java_org_tensorflow_Session_cancel(JNIEnv* env,
+                                                          jclass clazz,
+                                                          jlong handle) {
+  TF_Session* session = requireHandle(env, handle);
+  if (session == nullptr) return;
+  // Closing a session cancels its pending runs, it is deleted later by delete()
+  TF_Status* status = TF_NewStatus();
+  TF_CloseSession(session, status);
+  throwExceptionIfNotOK(env, status);
+  TF_DeleteStatus(status);
+}
+
 JNIEXPORT jbyteArray JNICALL Java_org_tensorflow_Session_run(
     JNIEnv* env, jclass clazz, jlong handle, jbyteArray jrun_options,
     jlongArray input_tensor_handles, jlongArray input_op_handles,
@@ -186,11 +219,30 @@ JNIEXPORT jbyteArray JNICALL Java_org_tensorflow_Session_run(
     TF_DeleteStatus(status);
     return nullptr;
   }
+  // Non-null output handles refer to tensors provided by the caller, which
+  // take the ownership of the tensors allocated by the session for them. The
+  // values are not copied, only checked to be compatible.
   jlong* t = env->GetLongArrayElements(output_tensor_handles, nullptr);
+  bool compatible = true;
+  for (int i = 0; i < noutputs && compatible; ++i) {
+    if (t[i] != 0) {
+      compatible = checkOutputTensor(env, output_values[i],
+                                     reinterpret_cast<TF_Tensor*>(t[i]), i);
+    }
+  }
   for (int i = 0; i < noutputs; ++i) {
-    t[i] = reinterpret_cast<jlong>(output_values[i]);
+    if (compatible) {
+      t[i] = reinterpret_cast<jlong>(output_values[i]);
+    } else {
+      TF_DeleteTensor(output_values[i]);
+    }
+  }
+  env->ReleaseLongArrayElements(output_tensor_handles, t,
+                                compatible ? 0 : JNI_ABORT);
+  if (!compatible) {
+    TF_DeleteStatus(status);
+    return nullptr;
   }
-  env->ReleaseLongArrayElements(output_tensor_handles, t, 0);
 
   jbyteArray ret = nullptr;
   if (run_metadata != nullptr) {
@@ -201,3 +253,158 @@ JNIEXPORT jbyteArray JNICALL Java_org_tensorflow_Session_run(
   TF_DeleteStatus(status);
   return ret;
 }
+
+JNIEXPORT jlong JNICALL Java_org_tensorflow_Session_partialRunSetup(
+    JNIEnv* env, jclass clazz, jlong handle, jlongArray input_op_handles,
+    jintArray input_op_indices, jlongArray output_op_handles,
+    jintArray output_op_indices, jlongArray target_op_handles) {
+  TF_Session* session = requireHandle(env, handle);
+  if (session == nullptr) return 0;
+
+  const jint ninputs = env->GetArrayLength(input_op_handles);
+  const jint noutputs = env->GetArrayLength(output_op_handles);
+  const jint ntargets = env->GetArrayLength(target_op_handles);
+
+  std::unique_ptr<TF_Output[]> inputs(new TF_Output[ninputs]);
+  std::unique_ptr<TF_Output[]> outputs(new TF_Output[noutputs]);
+  std::unique_ptr<TF_Operation* []> targets(new TF_Operation*[ntargets]);
+
+  resolveOutputs(env, "input", input_op_handles, input_op_indices, inputs.get(),
+                 ninputs);
+  resolveOutputs(env, "output", output_op_handles, output_op_indices,
+                 outputs.get(), noutputs);
+  resolveHandles(env, "target Operations", target_op_handles, targets.get(),
+                 ntargets);
+  if (env->ExceptionCheck()) return 0;
+
+  TF_Status* status = TF_NewStatus();
+  const char* prun_handle = nullptr;
+  TF_SessionPRunSetup(session, inputs.get(), static_cast<int>(ninputs),
+                      outputs.get(), static_cast<int>(noutputs),
+                      targets.get(), static_cast<int>(ntargets), &prun_handle,
+                      status);
+  bool ok = throwExceptionIfNotOK(env, status);
+  TF_DeleteStatus(status);
+  if (!ok) {
+    if (prun_handle != nullptr) TF_DeletePRunHandle(prun_handle);
+    return 0;
+  }
+  static_assert(sizeof(jlong) >= sizeof(const char*),
+                "Cannot package C object pointers as a Java long");
+  return reinterpret_cast<jlong>(prun_handle);
+}
+
+JNIEXPORT void JNICALL Java_org_tensorflow_Session_partialRun(
+    JNIEnv* env, jclass clazz, jlong handle, jlong prun_handle,
+    jlongArray input_tensor_handles, jlongArray input_op_handles,
+    jintArray input_op_indices, jlongArray output_op_handles,
+    jintArray output_op_indices, jlongArray target_op_handles,
+    jlongArray output_tensor_handles) {
+  TF_Session* session = requireHandle(env, handle);
+  if (session == nullptr) return;
+  if (prun_handle == 0) {
+    throwException(env, kNullPointerException,
+                   "close() has been called on the partial run");
+    return;
+  }
+
+  const jint ninputs = env->GetArrayLength(input_tensor_handles);
+  const jint noutputs = env->GetArrayLength(output_tensor_handles);
+  const jint ntargets = env->GetArrayLength(target_op_handles);
+
+  std::unique_ptr<TF_Output[]> inputs(new TF_Output[ninputs]);
+  std::unique_ptr<TF_Tensor* []> input_values(new TF_Tensor*[ninputs]);
+  std::unique_ptr<TF_Output[]> outputs(new TF_Output[noutputs]);
+  std::unique_ptr<TF_Tensor* []> output_values(new TF_Tensor*[noutputs]);
+  std::unique_ptr<TF_Operation* []> targets(new TF_Operation*[ntargets]);
+
+  resolveHandles(env, "input Tensors", input_tensor_handles, input_values.get(),
+                 ninputs);
+  resolveOutputs(env, "input", input_op_handles, input_op_indices, inputs.get(),
+                 ninputs);
+  resolveOutputs(env, "output", output_op_handles, output_op_indices,
+                 outputs.get(), noutputs);
+  resolveHandles(env, "target Operations", target_op_handles, targets.get(),
+                 ntargets);
+  if (env->ExceptionCheck()) return;
+
+  TF_Status* status = TF_NewStatus();
+  TF_SessionPRun(session, reinterpret_cast<const char*>(prun_handle),
+                 inputs.get(), input_values.get(), static_cast<int>(ninputs),
+                 outputs.get(), output_values.get(), static_cast<int>(noutputs),
+                 targets.get(), static_cast<int>(ntargets), status);
+  bool ok = throwExceptionIfNotOK(env, status);
+  TF_DeleteStatus(status);
+  if (!ok) return;
+
+  jlong* t = env->GetLongArrayElements(output_tensor_handles, nullptr);
+  for (int i = 0; i < noutputs; ++i) {
+    t[i] = reinterpret_cast<jlong>(output_values[i]);
+  }
+  env->ReleaseLongArrayElements(output_tensor_handles, t, 0);
+}
+
+JNIEXPORT void JNICALL Java_org_tensorflow_Session_deletePartialRun(
+    JNIEnv* env, jclass clazz, jlong prun_handle) {
+  if (prun_handle == 0) return;
+  TF_DeletePRunHandle(reinterpret_cast<const char*>(prun_handle));
+}
+
+JNIEXPORT jlong JNICALL Java_org_tensorflow_Session_listDevices(JNIEnv* env,
+                                                               jclass clazz,
+                                                               jlong handle) {
+  TF_Session* session = requireHandle(env, handle);
+  if (session == nullptr) return 0;
+  TF_Status* status = TF_NewStatus();
+  TF_DeviceList* devices = TF_SessionListDevices(session, status);
+  throwExceptionIfNotOK(env, status);
+  TF_DeleteStatus(status);
+  return reinterpret_cast<jlong>(devices);
+}
+
+JNIEXPORT jint JNICALL Java_org_tensorflow_Session_deviceCount(
+    JNIEnv* env, jclass clazz, jlong list_handle) {
+  return TF_DeviceListCount(reinterpret_cast<TF_DeviceList*>(list_handle));
+}
+
+JNIEXPORT jstring JNICALL Java_org_tensorflow_Session_deviceName(
+    JNIEnv* env, jclass clazz, jlong list_handle, jint index) {
+  TF_Status* status = TF_NewStatus();
+  const char* name = TF_DeviceListName(
+      reinterpret_cast<TF_DeviceList*>(list_handle), index, status);
+  jstring ret = nullptr;
+  if (throwExceptionIfNotOK(env, status)) {
+    ret = env->NewStringUTF(name);
+  }
+  TF_DeleteStatus(status);
+  return ret;
+}
+
+JNIEXPORT jstring JNICALL Java_org_tensorflow_Session_deviceType(
+    JNIEnv* env, jclass clazz, jlong list_handle, jint index) {
+  TF_Status* status = TF_NewStatus();
+  const char* type = TF_DeviceListType(
+      reinterpret_cast<TF_DeviceList*>(list_handle), index, status);
+  jstring ret = nullptr;
+  if (throwExceptionIfNotOK(env, status)) {
+    ret = env->NewStringUTF(type);
+  }
+  TF_DeleteStatus(status);
+  return ret;
+}
+
+JNIEXPORT jlong JNICALL Java_org_tensorflow_Session_deviceMemoryBytes(
+    JNIEnv* env, jclass clazz, jlong list_handle, jint index) {
+  TF_Status* status = TF_NewStatus();
+  int64_t bytes = TF_DeviceListMemoryBytes(
+      reinterpret_cast<TF_DeviceList*>(list_handle), index, status);
+  throwExceptionIfNotOK(env, status);
+  TF_DeleteStatus(status);
+  return static_cast<jlong>(bytes);
+}
+
+JNIEXPORT void JNICALL Java_org_tensorflow_Session_deleteDeviceList(
+    JNIEnv* env, jclass clazz, jlong list_handle) {
+  if (list_handle == 0) return;
+  TF_DeleteDeviceList(reinterpret_cast<TF_DeviceList*>(list_handle));
+}
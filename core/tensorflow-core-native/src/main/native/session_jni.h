@@ -47,6 +47,14 @@ JNIEXPORT jlong JNICALL Java_org_tensorflow_Session_allocate2(JNIEnv *, jclass,
 JNIEXPORT void JNICALL Java_org_tensorflow_Session_delete(JNIEnv *, jclass,
                                                           jlong);
 
+/*
+ * Class:     org_tensorflow_Session
+ * Method:    cancel
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_org_tensorflow_Session_cancel(JNIEnv *, jclass,
+                                                          jlong);
+
 /*
  * Class:     org_tensorflow_Session
  * Method:    run
@@ -56,6 +64,86 @@ JNIEXPORT jbyteArray JNICALL Java_org_tensorflow_Session_run(
     JNIEnv *, jclass, jlong, jbyteArray, jlongArray, jlongArray, jintArray,
     jlongArray, jintArray, jlongArray, jboolean, jlongArray);
 
+/*
+ * Class:     org_tensorflow_Session
+ * Method:    partialRunSetup
+ * Signature: (J[J[I[J[I[J)J
+ */
+JNIEXPORT jlong JNICALL Java_org_tensorflow_Session_partialRunSetup(
+    JNIEnv *, jclass, jlong, jlongArray, jintArray, jlongArray, jintArray,
+    jlongArray);
+
+/*
+ * Class:     org_tensorflow_Session
+ * Method:    partialRun
+ * Signature: (JJ[J[J[I[J[I[J[J)V
+ */
+JNIEXPORT void JNICALL Java_org_tensorflow_Session_partialRun(
+    JNIEnv *, jclass, jlong, jlong, jlongArray, jlongArray, jintArray,
+    jlongArray, jintArray, jlongArray, jlongArray);
+
+/*
+ * Class:     org_tensorflow_Session
+ * Method:    deletePartialRun
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_org_tensorflow_Session_deletePartialRun(JNIEnv *,
+                                                                    jclass,
+                                                                    jlong);
+
+/*
+ * Class:     org_tensorflow_Session
+ * Method:    listDevices
+ * Signature: (J)J
+ */
+JNIEXPORT jlong JNICALL Java_org_tensorflow_Session_listDevices(JNIEnv *,
+                                                               jclass, jlong);
+
+/*
+ * Class:     org_tensorflow_Session
+ * Method:    deviceCount
+ * Signature: (J)I
+ */
+JNIEXPORT jint JNICALL Java_org_tensorflow_Session_deviceCount(JNIEnv *, jclass,
+                                                              jlong);
+
+/*
+ * Class:     org_tensorflow_Session
+ * Method:    deviceName
+ * Signature: (JI)Ljava/lang/String;
+ */
+JNIEXPORT jstring JNICALL Java_org_tensorflow_Session_deviceName(JNIEnv *,
+                                                                jclass, jlong,
+                                                                jint);
+
+/*
+ * Class:     org_tensorflow_Session
+ * Method:    deviceType
+ * Signature: (JI)Ljava/lang/String;
+ */
+JNIEXPORT jstring JNICALL Java_org_tensorflow_Session_deviceType(JNIEnv *,
+                                                                jclass, jlong,
+                                                                jint);
+
+/*
+ * Class:     org_tensorflow_Session
+ * Method:    deviceMemoryBytes
+ * Signature: (JI)J
+ */
+JNIEXPORT jlong JNICALL Java_org_tensorflow_Session_deviceMemoryBytes(JNIEnv *,
+                                                                     jclass,
+                                                                     jlong,
+                                                                     jint);
+
+/*
+ * Class:     org_tensorflow_Session
+ * Method:    deleteDeviceList
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_org_tensorflow_Session_deleteDeviceList(JNIEnv *,
+                                                                    jclass,
+                                                                    jlong);
+
 #ifdef __cplusplus
 }  // extern "C"
 #endif  // __cplusplus
@@ -20,6 +20,7 @@ limitations under the License.
 #include <string.h>
 #include <algorithm>
 #include <memory>
+#include <vector>
 
 #include "tensorflow/c/c_api.h"
 #include "src/main/native/exception_jni.h"
@@ -42,19 +43,27 @@ size_t elemByteSize(TF_DataType dtype) {
   switch (dtype) {
     case TF_BOOL:
     case TF_UINT8:
+    case TF_INT8:
       static_assert(sizeof(jboolean) == 1,
                     "Java boolean not compatible with TF_BOOL");
       static_assert(sizeof(jbyte) == 1,
                     "Java byte not compatible with TF_UINT8");
       return 1;
+    case TF_INT16:
+    case TF_UINT16:
+      static_assert(sizeof(jshort) == 2,
+                    "Java short not compatible with TF_INT16");
+      return 2;
     case TF_FLOAT:
     case TF_INT32:
+    case TF_UINT32:
       static_assert(sizeof(jfloat) == 4,
                     "Java float not compatible with TF_FLOAT");
       static_assert(sizeof(jint) == 4, "Java int not compatible with TF_INT32");
       return 4;
     case TF_DOUBLE:
     case TF_INT64:
+    case TF_UINT64:
       static_assert(sizeof(jdouble) == 8,
                     "Java double not compatible with TF_DOUBLE");
       static_assert(sizeof(jlong) == 8,
@@ -94,6 +103,11 @@ void writeScalar(JNIEnv* env, jobject src, TF_DataType dtype, void* dst,
     CASE(TF_INT32, jint, "intValue", "()I", Int);
     CASE(TF_INT64, jlong, "longValue", "()J", Long);
     CASE(TF_UINT8, jbyte, "byteValue", "()B", Byte);
+    CASE(TF_INT8, jbyte, "byteValue", "()B", Byte);
+    CASE(TF_INT16, jshort, "shortValue", "()S", Short);
+    CASE(TF_UINT16, jshort, "shortValue", "()S", Short);
+    CASE(TF_UINT32, jint, "intValue", "()I", Int);
+    CASE(TF_UINT64, jlong, "longValue", "()J", Long);
 #undef CASE
     case TF_BOOL: {
       jclass clazz = env->FindClass("java/lang/Boolean");
@@ -139,6 +153,11 @@ size_t write1DArray(JNIEnv* env, jarray array, TF_DataType dtype, void* dst,
     CASE(TF_INT64, jlong, Long);
     CASE(TF_BOOL, jboolean, Boolean);
     CASE(TF_UINT8, jbyte, Byte);
+    CASE(TF_INT8, jbyte, Byte);
+    CASE(TF_INT16, jshort, Short);
+    CASE(TF_UINT16, jshort, Short);
+    CASE(TF_UINT32, jint, Int);
+    CASE(TF_UINT64, jlong, Long);
 #undef CASE
     default:
       throwException(env, kIllegalStateException, "invalid DataType(%d)",
@@ -174,6 +193,11 @@ size_t read1DArray(JNIEnv* env, TF_DataType dtype, const void* src,
     CASE(TF_INT64, jlong, Long);
     CASE(TF_BOOL, jboolean, Boolean);
     CASE(TF_UINT8, jbyte, Byte);
+    CASE(TF_INT8, jbyte, Byte);
+    CASE(TF_INT16, jshort, Short);
+    CASE(TF_UINT16, jshort, Short);
+    CASE(TF_UINT32, jint, Int);
+    CASE(TF_UINT64, jlong, Long);
 #undef CASE
     default:
       throwException(env, kIllegalStateException, "invalid DataType(%d)",
@@ -473,6 +497,105 @@ JNIEXPORT jlong JNICALL Java_org_tensorflow_Tensor_allocateNonScalarBytes(
   return ret;
 }
 
+JNIEXPORT jlong JNICALL Java_org_tensorflow_Tensor_allocateStrings(
+    JNIEnv* env, jclass clazz, jlongArray shape, jbyteArray data,
+    jintArray offsets) {
+  // Offsets have already been validated against the shape and the data by the
+  // Java caller, so string i is found in data[offsets[i], offsets[i + 1]).
+  const int num_dims = static_cast<int>(env->GetArrayLength(shape));
+  int64_t* dims = new int64_t[num_dims];
+  {
+    jlong* jdims = env->GetLongArrayElements(shape, nullptr);
+    for (int i = 0; i < num_dims; ++i) {
+      dims[i] = static_cast<int64_t>(jdims[i]);
+    }
+    env->ReleaseLongArrayElements(shape, jdims, JNI_ABORT);
+  }
+  const int num_elements = env->GetArrayLength(offsets) - 1;
+  jint* joffsets = env->GetIntArrayElements(offsets, nullptr);
+  size_t encoded_size = 0;
+  for (int i = 0; i < num_elements; ++i) {
+    encoded_size += TF_StringEncodedSize(
+        static_cast<size_t>(joffsets[i + 1] - joffsets[i]));
+  }
+  TF_Tensor* t = TF_AllocateTensor(TF_STRING, dims, num_dims,
+                                   8 * num_elements + encoded_size);
+  delete[] dims;
+  if (t == nullptr) {
+    env->ReleaseIntArrayElements(offsets, joffsets, JNI_ABORT);
+    throwException(env, kNullPointerException,
+                   "unable to allocate memory for the Tensor");
+    return 0;
+  }
+  TF_Status* status = TF_NewStatus();
+  StringTensorWriter writer(t, num_elements);
+  jbyte* jdata = env->GetByteArrayElements(data, nullptr);
+  for (int i = 0; i < num_elements; ++i) {
+    // jdata is an unsigned byte*, TF_StringEncode requires a char*.
+    writer.Add(reinterpret_cast<const char*>(jdata + joffsets[i]),
+               static_cast<size_t>(joffsets[i + 1] - joffsets[i]), status);
+  }
+  env->ReleaseByteArrayElements(data, jdata, JNI_ABORT);
+  env->ReleaseIntArrayElements(offsets, joffsets, JNI_ABORT);
+  jlong ret = 0;
+  if (!throwExceptionIfNotOK(env, status)) {
+    TF_DeleteTensor(t);
+  } else {
+    ret = reinterpret_cast<jlong>(t);
+  }
+  TF_DeleteStatus(status);
+  return ret;
+}
+
+JNIEXPORT void JNICALL Java_org_tensorflow_Tensor_allocateBatch(
+    JNIEnv* env, jclass clazz, jintArray dtypes, jintArray ranks,
+    jlongArray dims, jbyteArray data, jlongArray byte_sizes,
+    jlongArray handles) {
+  // Shapes and data have already been validated and packed by the Java caller:
+  // dims holds the dimensions of all tensors back to back, and data holds the
+  // byte_sizes[i] bytes of each tensor, one after the other.
+  const int num_tensors = static_cast<int>(env->GetArrayLength(dtypes));
+  jint* jdtypes = env->GetIntArrayElements(dtypes, nullptr);
+  jint* jranks = env->GetIntArrayElements(ranks, nullptr);
+  jlong* jdims = env->GetLongArrayElements(dims, nullptr);
+  jlong* jbyte_sizes = env->GetLongArrayElements(byte_sizes, nullptr);
+  jlong* jhandles = env->GetLongArrayElements(handles, nullptr);
+  jbyte* jdata = env->GetByteArrayElements(data, nullptr);
+  std::vector<int64_t> tensor_dims;
+  const jbyte* src = jdata;
+  const jlong* next_dims = jdims;
+  int num_allocated = 0;
+  for (; num_allocated < num_tensors; ++num_allocated) {
+    const int i = num_allocated;
+    tensor_dims.assign(next_dims, next_dims + jranks[i]);
+    next_dims += jranks[i];
+    const size_t nbytes = static_cast<size_t>(jbyte_sizes[i]);
+    TF_Tensor* t = TF_AllocateTensor(static_cast<TF_DataType>(jdtypes[i]),
+                                     tensor_dims.data(), jranks[i], nbytes);
+    if (t == nullptr) break;
+    memcpy(TF_TensorData(t), src, nbytes);
+    src += nbytes;
+    jhandles[i] = reinterpret_cast<jlong>(t);
+  }
+  if (num_allocated < num_tensors) {
+    // Do not leak the tensors allocated so far, none of them is returned.
+    for (int i = 0; i < num_allocated; ++i) {
+      TF_DeleteTensor(reinterpret_cast<TF_Tensor*>(jhandles[i]));
+      jhandles[i] = 0;
+    }
+  }
+  env->ReleaseByteArrayElements(data, jdata, JNI_ABORT);
+  env->ReleaseLongArrayElements(handles, jhandles, 0);
+  env->ReleaseLongArrayElements(byte_sizes, jbyte_sizes, JNI_ABORT);
+  env->ReleaseLongArrayElements(dims, jdims, JNI_ABORT);
+  env->ReleaseIntArrayElements(ranks, jranks, JNI_ABORT);
+  env->ReleaseIntArrayElements(dtypes, jdtypes, JNI_ABORT);
+  if (num_allocated < num_tensors) {
+    throwException(env, kNullPointerException,
+                   "unable to allocate memory for the Tensor");
+  }
+}
+
 JNIEXPORT void JNICALL Java_org_tensorflow_Tensor_delete(JNIEnv* env,
                                                          jclass clazz,
                                                          jlong handle) {
@@ -491,30 +614,23 @@ JNIEXPORT jobject JNICALL Java_org_tensorflow_Tensor_buffer(JNIEnv* env,
   return env->NewDirectByteBuffer(data, static_cast<jlong>(sz));
 }
 
-JNIEXPORT jint JNICALL Java_org_tensorflow_Tensor_dtype(JNIEnv* env,
-                                                        jclass clazz,
-                                                        jlong handle) {
-  static_assert(sizeof(jint) >= sizeof(TF_DataType),
-                "TF_DataType in C cannot be represented as an int in Java");
-  TF_Tensor* t = requireHandle(env, handle);
-  if (t == nullptr) return 0;
-  return static_cast<jint>(TF_TensorType(t));
-}
-
-JNIEXPORT jlongArray JNICALL Java_org_tensorflow_Tensor_shape(JNIEnv* env,
-                                                              jclass clazz,
-                                                              jlong handle) {
+JNIEXPORT jlongArray JNICALL Java_org_tensorflow_Tensor_describe(
+    JNIEnv* env, jclass clazz, jlong handle) {
   TF_Tensor* t = requireHandle(env, handle);
   if (t == nullptr) return nullptr;
   static_assert(sizeof(jlong) == sizeof(int64_t),
                 "Java long is not compatible with the TensorFlow C API");
+  // The description of a tensor is made of its type and its size in bytes,
+  // followed by the size of each of its dimensions.
   const jsize num_dims = TF_NumDims(t);
-  jlongArray ret = env->NewLongArray(num_dims);
-  jlong* dims = env->GetLongArrayElements(ret, nullptr);
+  jlongArray ret = env->NewLongArray(num_dims + 2);
+  jlong* desc = env->GetLongArrayElements(ret, nullptr);
+  desc[0] = static_cast<jlong>(TF_TensorType(t));
+  desc[1] = static_cast<jlong>(TF_TensorByteSize(t));
   for (int i = 0; i < num_dims; ++i) {
-    dims[i] = static_cast<jlong>(TF_Dim(t, i));
+    desc[i + 2] = static_cast<jlong>(TF_Dim(t, i));
   }
-  env->ReleaseLongArrayElements(ret, dims, 0);
+  env->ReleaseLongArrayElements(ret, desc, 0);
   return ret;
 }
 
@@ -554,6 +670,7 @@ JNIEXPORT void JNICALL Java_org_tensorflow_Tensor_setValue(JNIEnv* env,
   }
 DEFINE_GET_SCALAR_METHOD(jfloat, TF_FLOAT, Float);
 DEFINE_GET_SCALAR_METHOD(jdouble, TF_DOUBLE, Double);
+DEFINE_GET_SCALAR_METHOD(jshort, TF_INT16, Short);
 DEFINE_GET_SCALAR_METHOD(jint, TF_INT32, Int);
 DEFINE_GET_SCALAR_METHOD(jlong, TF_INT64, Long);
 DEFINE_GET_SCALAR_METHOD(jboolean, TF_BOOL, Boolean);
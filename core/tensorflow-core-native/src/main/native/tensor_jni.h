@@ -47,6 +47,23 @@ Java_org_tensorflow_Tensor_allocateScalarBytes(JNIEnv *, jclass, jbyteArray);
 JNIEXPORT jlong JNICALL Java_org_tensorflow_Tensor_allocateNonScalarBytes(
     JNIEnv *, jclass, jlongArray, jobjectArray);
 
+/*
+ * Class:     org_tensorflow_Tensor
+ * Method:    allocateStrings
+ * Signature: ([J[B[I)J
+ */
+JNIEXPORT jlong JNICALL Java_org_tensorflow_Tensor_allocateStrings(
+    JNIEnv *, jclass, jlongArray, jbyteArray, jintArray);
+
+/*
+ * Class:     org_tensorflow_Tensor
+ * Method:    allocateBatch
+ * Signature: ([I[I[J[B[J[J)V
+ */
+JNIEXPORT void JNICALL Java_org_tensorflow_Tensor_allocateBatch(
+    JNIEnv *, jclass, jintArray, jintArray, jlongArray, jbyteArray, jlongArray,
+    jlongArray);
+
 /*
  * Class:     org_tensorflow_Tensor
  * Method:    delete
@@ -65,19 +82,11 @@ JNIEXPORT jobject JNICALL Java_org_tensorflow_Tensor_buffer(JNIEnv *, jclass,
 
 /*
  * Class:     org_tensorflow_Tensor
- * Method:    dtype
- * Signature: (J)I
- */
-JNIEXPORT jint JNICALL Java_org_tensorflow_Tensor_dtype(JNIEnv *, jclass,
-                                                        jlong);
-
-/*
- * Class:     org_tensorflow_Tensor
- * Method:    shape
+ * Method:    describe
  * Signature: (J)[J
  */
-JNIEXPORT jlongArray JNICALL Java_org_tensorflow_Tensor_shape(JNIEnv *, jclass,
-                                                              jlong);
+JNIEXPORT jlongArray JNICALL Java_org_tensorflow_Tensor_describe(JNIEnv *,
+                                                                 jclass, jlong);
 
 /*
  * Class:     org_tensorflow_Tensor
@@ -108,6 +117,14 @@ JNIEXPORT jdouble JNICALL Java_org_tensorflow_Tensor_scalarDouble(JNIEnv *,
                                                                   jclass,
                                                                   jlong);
 
+/*
+ * Class:     org_tensorflow_Tensor
+ * Method:    scalarShort
+ * Signature: (J)S
+ */
+JNIEXPORT jshort JNICALL Java_org_tensorflow_Tensor_scalarShort(JNIEnv *,
+                                                                jclass, jlong);
+
 /*
  * Class:     org_tensorflow_Tensor
  * Method:    scalarInt
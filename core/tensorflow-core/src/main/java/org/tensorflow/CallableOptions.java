@@ -0,0 +1,135 @@
+/* Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+==============================================================================*/
+
+package org.tensorflow;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The fixed signature of a {@link SessionCallable}: the values it feeds, the values it fetches and
+ * the operations it executes.
+ *
+ * <p>Like in a {@link Session.Runner}, feeds and fetches are named either by the name of an
+ * operation, for its first output, or by a string of the form <tt>operation_name:output_index</tt>.
+ * For example:
+ *
+ * <pre>{@code
+ * CallableOptions options = CallableOptions.create().feed("x").fetch("y:0").fetch("z");
+ * }</pre>
+ *
+ * @see Session#makeCallable(CallableOptions)
+ */
+public final class CallableOptions {
+
+  /** Creates empty callable options. */
+  public static CallableOptions create() {
+    return new CallableOptions();
+  }
+
+  /**
+   * Adds a value to feed, which is passed at this position to {@link SessionCallable#call}.
+   *
+   * @param operation name of the operation, optionally followed by the index of its output
+   */
+  public CallableOptions feed(String operation) {
+    feeds.add(operation);
+    return this;
+  }
+
+  /** Adds the value referred to by {@code operand} to feed. */
+  public CallableOptions feed(Operand<?> operand) {
+    return feed(outputName(operand));
+  }
+
+  /**
+   * Adds a value to fetch, which is returned at this position by {@link SessionCallable#call}.
+   *
+   * @param operation name of the operation, optionally followed by the index of its output
+   */
+  public CallableOptions fetch(String operation) {
+    fetches.add(operation);
+    return this;
+  }
+
+  /** Adds the value referred to by {@code operand} to fetch. */
+  public CallableOptions fetch(Operand<?> operand) {
+    return fetch(outputName(operand));
+  }
+
+  /**
+   * Adds an operation to execute, without returning any of its outputs.
+   *
+   * @param operation name of the operation
+   */
+  public CallableOptions target(String operation) {
+    targets.add(operation);
+    return this;
+  }
+
+  /** Adds an operation to execute, without returning any of its outputs. */
+  public CallableOptions target(Operation operation) {
+    return target(operation.name());
+  }
+
+  /**
+   * Sets the options of each call, as a serialized <a
+   * href="https://www.tensorflow.org/code/tensorflow/core/protobuf/config.proto">RunOptions
+   * protocol buffer</a>.
+   *
+   * @see Session.Runner#setOptions(byte[])
+   */
+  public CallableOptions runOptions(byte[] value) {
+    runOptions = value;
+    return this;
+  }
+
+  /** Sets the options of each call. */
+  public CallableOptions runOptions(RunOptions value) {
+    return runOptions(value.toByteArray());
+  }
+
+  /** Returns the values to feed, in the order they are passed to a call. */
+  public List<String> feeds() {
+    return Collections.unmodifiableList(feeds);
+  }
+
+  /** Returns the values to fetch, in the order they are returned by a call. */
+  public List<String> fetches() {
+    return Collections.unmodifiableList(fetches);
+  }
+
+  /** Returns the operations to execute. */
+  public List<String> targets() {
+    return Collections.unmodifiableList(targets);
+  }
+
+  byte[] runOptions() {
+    return runOptions;
+  }
+
+  private final List<String> feeds = new ArrayList<String>();
+  private final List<String> fetches = new ArrayList<String>();
+  private final List<String> targets = new ArrayList<String>();
+  private byte[] runOptions = null;
+
+  private CallableOptions() {}
+
+  private static String outputName(Operand<?> operand) {
+    Output<?> output = operand.asOutput();
+    return output.op().name() + ":" + output.index();
+  }
+}
@@ -18,6 +18,15 @@ package org.tensorflow;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.tensorflow.types.BFloat16;
+import org.tensorflow.types.Complex128;
+import org.tensorflow.types.Complex64;
+import org.tensorflow.types.Half;
+import org.tensorflow.types.Int16;
+import org.tensorflow.types.Int8;
+import org.tensorflow.types.UInt16;
+import org.tensorflow.types.UInt32;
+import org.tensorflow.types.UInt64;
 import org.tensorflow.types.UInt8;
 
 /** Represents the type of elements in a {@link Tensor} as an enum. */
@@ -34,6 +43,12 @@ public enum DataType {
   /** 8-bit unsigned integer. */
   UINT8(4, 1),
 
+  /** 16-bit signed integer. */
+  INT16(5, 2),
+
+  /** 8-bit signed integer. */
+  INT8(6, 1),
+
   /**
    * A sequence of bytes.
    *
@@ -41,11 +56,32 @@ public enum DataType {
    */
   STRING(7, -1),
 
+  /** Complex number made of two 32-bit floating point values, for the real and imaginary parts. */
+  COMPLEX64(8, 8),
+
   /** 64-bit signed integer. */
   INT64(9, 8),
 
   /** Boolean. */
-  BOOL(10, 1);
+  BOOL(10, 1),
+
+  /** 16-bit brain floating point, with the exponent range of FLOAT but less precision. */
+  BFLOAT16(14, 2),
+
+  /** 16-bit unsigned integer. */
+  UINT16(17, 2),
+
+  /** Complex number made of two 64-bit floating point values, for the real and imaginary parts. */
+  COMPLEX128(18, 16),
+
+  /** 16-bit half precision floating point. */
+  HALF(19, 2),
+
+  /** 32-bit unsigned integer. */
+  UINT32(22, 4),
+
+  /** 64-bit unsigned integer. */
+  UINT64(23, 8);
 
   private final int value;
   
@@ -112,5 +148,14 @@ public enum DataType {
     typeCodes.put(Long.class, DataType.INT64);
     typeCodes.put(Boolean.class, DataType.BOOL);
     typeCodes.put(String.class, DataType.STRING);
+    typeCodes.put(BFloat16.class, DataType.BFLOAT16);
+    typeCodes.put(Half.class, DataType.HALF);
+    typeCodes.put(Int8.class, DataType.INT8);
+    typeCodes.put(Int16.class, DataType.INT16);
+    typeCodes.put(UInt16.class, DataType.UINT16);
+    typeCodes.put(UInt32.class, DataType.UINT32);
+    typeCodes.put(UInt64.class, DataType.UINT64);
+    typeCodes.put(Complex64.class, DataType.COMPLEX64);
+    typeCodes.put(Complex128.class, DataType.COMPLEX128);
   }
 }
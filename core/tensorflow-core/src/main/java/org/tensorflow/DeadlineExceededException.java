@@ -0,0 +1,30 @@
+/* Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+==============================================================================*/
+
+package org.tensorflow;
+
+/**
+ * Unchecked exception thrown when an execution does not complete before its deadline.
+ *
+ * <p>For example, this is thrown by {@link Session.Runner#run()} when the timeout set by {@link
+ * Session.Runner#setTimeout(long, java.util.concurrent.TimeUnit)} expires.
+ */
+public final class DeadlineExceededException extends TensorFlowException {
+  private static final long serialVersionUID = 1L;
+
+  DeadlineExceededException(String message) {
+    super(message);
+  }
+}
@@ -145,7 +145,11 @@ final class EagerOperationBuilder implements OperationBuilder {
 
   @Override
   public EagerOperationBuilder setAttr(String name, Tensor<?> value) {
-    setAttrTensor(nativeRef.opHandle, name, value.getNativeHandle());
+    try {
+      setAttrTensor(nativeRef.opHandle, name, value.getNativeHandle());
+    } finally {
+      value.keepAlive();
+    }
     return this;
   }
 
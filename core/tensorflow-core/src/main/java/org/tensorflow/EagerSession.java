@@ -177,6 +177,15 @@ public final class EagerSession implements ExecutionEnvironment, AutoCloseable {
       return this;
     }
 
+    /**
+     * Configures the session.
+     *
+     * @param value configuration of the session
+     */
+    public Options config(SessionConfig value) {
+      return config(value.toByteArray());
+    }
+
     /** Builds an eager session with the selected options. */
     public EagerSession build() {
       return new EagerSession(this, new ReferenceQueue<Object>());
@@ -16,6 +16,8 @@ limitations under the License.
 package org.tensorflow;
 
 import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * A data flow graph representing a TensorFlow computation.
@@ -60,6 +62,7 @@ public final class Graph implements ExecutionEnvironment, AutoCloseable {
       }
       delete(nativeHandle);
       nativeHandle = 0;
+      operationsByName.clear();
     }
   }
 
@@ -67,14 +70,23 @@ public final class Graph implements ExecutionEnvironment, AutoCloseable {
    * Returns the operation (node in the Graph) with the provided name.
    *
    * <p>Or {@code null} if no such operation exists in the Graph.
+   *
+   * <p>Operations found are cached, so looking up the same name again does not need to call the
+   * native library.
    */
   public GraphOperation operation(String name) {
+    GraphOperation op = operationsByName.get(name);
+    if (op != null) {
+      return op;
+    }
     synchronized (nativeHandleLock) {
       long oph = operation(nativeHandle, name);
       if (oph == 0) {
         return null;
       }
-      return new GraphOperation(this, oph);
+      op = new GraphOperation(this, oph);
+      operationsByName.put(name, op);
+      return op;
     }
   }
 
@@ -350,6 +362,13 @@ public final class Graph implements ExecutionEnvironment, AutoCloseable {
   private long nativeHandle;
   private int refcount = 0;
 
+  // Operations cannot be removed or renamed once they have been added to a graph, so an operation
+  // found by name remains valid until the graph is closed, even after new operations are added or
+  // a graph definition is imported. Names that are not found are not cached, since an operation
+  // with that name could be added later.
+  private final ConcurrentMap<String, GraphOperation> operationsByName =
+      new ConcurrentHashMap<String, GraphOperation>();
+
   // Related native objects (such as the TF_Operation object backing an Operation instance)
   // have a validity tied to that of the Graph. The handles to those native objects are not
   // valid after Graph.close() has been invoked.
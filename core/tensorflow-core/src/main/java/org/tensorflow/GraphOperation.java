@@ -55,6 +55,21 @@ public final class GraphOperation extends AbstractOperation {
     }
   }
 
+  /**
+   * Returns the device this operation has been placed on when it was built, or an empty string if
+   * the device is left to the choice of the session.
+   *
+   * @see OperationBuilder#setDevice(String)
+   */
+  public String device() {
+    Graph.Reference r = graph.ref();
+    try {
+      return device(getUnsafeNativeHandle());
+    } finally {
+      r.close();
+    }
+  }
+
   @Override
   public int numOutputs() {
     Graph.Reference r = graph.ref();
@@ -156,6 +171,8 @@ public final class GraphOperation extends AbstractOperation {
 
   private static native String type(long handle);
 
+  private static native String device(long handle);
+
   private static native int numOutputs(long handle);
 
   private static native int outputListLength(long handle, String name);
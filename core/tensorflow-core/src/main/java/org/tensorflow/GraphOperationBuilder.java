@@ -217,6 +217,7 @@ public final class GraphOperationBuilder implements OperationBuilder {
       setAttrTensor(unsafeNativeHandle, name, value.getNativeHandle());
     } finally {
       r.close();
+      value.keepAlive();
     }
     return this;
   }
@@ -233,6 +234,9 @@ public final class GraphOperationBuilder implements OperationBuilder {
       setAttrTensorList(unsafeNativeHandle, name, handles);
     } finally {
       r.close();
+      for (Tensor<?> t : value) {
+        t.keepAlive();
+      }
     }
     return this;
   }
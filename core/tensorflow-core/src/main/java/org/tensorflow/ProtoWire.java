@@ -0,0 +1,216 @@
+/* Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+==============================================================================*/
+
+package org.tensorflow;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Minimal support of the protocol buffer wire format.
+ *
+ * <p>The org.tensorflow package is free of any protocol buffer dependencies, but a few messages
+ * exchanged with the TensorFlow runtime (e.g. {@code RunOptions} or {@code RunMetadata}) are
+ * simple enough to be encoded and decoded by hand with these helpers. Only the wire types used by
+ * those messages are supported.
+ */
+final class ProtoWire {
+
+  static final int VARINT = 0;
+  static final int FIXED64 = 1;
+  static final int LENGTH_DELIMITED = 2;
+  static final int FIXED32 = 5;
+
+  /** Encodes the fields of a message. */
+  static final class Writer {
+
+    /** Writes a varint field (int32, int64, uint32, uint64, bool or enum). */
+    Writer writeVarint(int field, long value) {
+      writeTag(field, VARINT);
+      writeRawVarint(value);
+      return this;
+    }
+
+    /** Writes a bool field. */
+    Writer writeBool(int field, boolean value) {
+      return writeVarint(field, value ? 1 : 0);
+    }
+
+    /** Writes a bytes field, or an embedded message already encoded. */
+    Writer writeBytes(int field, byte[] value) {
+      writeTag(field, LENGTH_DELIMITED);
+      writeRawVarint(value.length);
+      out.write(value, 0, value.length);
+      return this;
+    }
+
+    /** Writes a string field, encoded in UTF-8. */
+    Writer writeString(int field, String value) {
+      return writeBytes(field, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** Returns the encoded message. */
+    byte[] toByteArray() {
+      return out.toByteArray();
+    }
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    private void writeTag(int field, int wireType) {
+      writeRawVarint((field << 3) | wireType);
+    }
+
+    private void writeRawVarint(long value) {
+      while ((value & ~0x7FL) != 0) {
+        out.write((int) ((value & 0x7F) | 0x80));
+        value >>>= 7;
+      }
+      out.write((int) value);
+    }
+  }
+
+  /**
+   * Decodes the fields of a message, one at a time.
+   *
+   * <p>Each call to {@link #next()} must be followed by one call to a method reading the value of
+   * the field, or to {@link #skip()}.
+   */
+  static final class Reader {
+
+    Reader(byte[] data) {
+      this(data, 0, data.length);
+    }
+
+    /** Returns true if a field has been read, or false if the end of the message is reached. */
+    boolean next() {
+      if (position >= limit) {
+        return false;
+      }
+      long tag = readRawVarint();
+      field = (int) (tag >>> 3);
+      wireType = (int) (tag & 0x7);
+      return true;
+    }
+
+    /** Returns the number of the current field. */
+    int field() {
+      return field;
+    }
+
+    /** Reads the value of a varint field. */
+    long readVarint() {
+      checkWireType(VARINT);
+      return readRawVarint();
+    }
+
+    /** Reads the value of a bool field. */
+    boolean readBool() {
+      return readVarint() != 0;
+    }
+
+    /** Reads the value of a string field, encoded in UTF-8. */
+    String readString() {
+      checkWireType(LENGTH_DELIMITED);
+      int length = readLength();
+      String value = new String(data, position, length, StandardCharsets.UTF_8);
+      position += length;
+      return value;
+    }
+
+    /** Returns a reader of the embedded message in the current field. */
+    Reader readMessage() {
+      checkWireType(LENGTH_DELIMITED);
+      int length = readLength();
+      Reader message = new Reader(data, position, position + length);
+      position += length;
+      return message;
+    }
+
+    /** Skips the value of the current field. */
+    void skip() {
+      switch (wireType) {
+        case VARINT:
+          readRawVarint();
+          break;
+        case FIXED64:
+          advance(8);
+          break;
+        case LENGTH_DELIMITED:
+          advance(readLength());
+          break;
+        case FIXED32:
+          advance(4);
+          break;
+        default:
+          throw new IllegalArgumentException(
+              "Unsupported wire type " + wireType + " for field " + field);
+      }
+    }
+
+    private final byte[] data;
+    private final int limit;
+    private int position;
+    private int field;
+    private int wireType;
+
+    private Reader(byte[] data, int offset, int limit) {
+      if (limit > data.length) {
+        throw new IllegalArgumentException("Truncated protocol buffer message");
+      }
+      this.data = data;
+      this.position = offset;
+      this.limit = limit;
+    }
+
+    private void checkWireType(int expected) {
+      if (wireType != expected) {
+        throw new IllegalArgumentException(
+            "Unexpected wire type " + wireType + " for field " + field);
+      }
+    }
+
+    private int readLength() {
+      long length = readRawVarint();
+      if (length < 0 || length > limit - position) {
+        throw new IllegalArgumentException("Truncated protocol buffer message");
+      }
+      return (int) length;
+    }
+
+    private void advance(int length) {
+      if (length > limit - position) {
+        throw new IllegalArgumentException("Truncated protocol buffer message");
+      }
+      position += length;
+    }
+
+    private long readRawVarint() {
+      long value = 0;
+      for (int shift = 0; shift < 64; shift += 7) {
+        if (position >= limit) {
+          throw new IllegalArgumentException("Truncated protocol buffer message");
+        }
+        byte b = data[position++];
+        value |= (long) (b & 0x7F) << shift;
+        if (b >= 0) {
+          return value;
+        }
+      }
+      throw new IllegalArgumentException("Malformed varint in protocol buffer message");
+    }
+  }
+
+  private ProtoWire() {}
+}
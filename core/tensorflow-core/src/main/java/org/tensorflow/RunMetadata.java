@@ -0,0 +1,372 @@
+/* Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+==============================================================================*/
+
+package org.tensorflow;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Metadata about the execution of a {@link Session}, returned by {@link
+ * Session.Runner#runAndFetchMetadata()}.
+ *
+ * <p>This is a read-only view of the step statistics found in a <a
+ * href="https://www.tensorflow.org/code/tensorflow/core/protobuf/config.proto">RunMetadata
+ * protocol buffer</a>, which are collected when the run is traced (see {@link
+ * RunOptions#traceLevel(RunOptions.TraceLevel)}). They tell when and where each node of the graph
+ * has been executed, and how much memory it used. For example, to find the slowest nodes of a
+ * run:
+ *
+ * <pre>{@code
+ * RunMetadata metadata = RunMetadata.parseFrom(run.metadata);
+ * for (RunMetadata.DeviceStepStats device : metadata.stepStats()) {
+ *   for (RunMetadata.NodeExecStats node : device.nodeStats()) {
+ *     System.out.println(node.nodeName() + " on " + device.device() + ": "
+ *         + node.allEndRelMicros() + " us");
+ *   }
+ * }
+ * }</pre>
+ *
+ * <p>The statistics can also be exported to the trace event format of Chrome with {@link
+ * #toChromeTrace()}, and then visualized in {@code chrome://tracing}.
+ */
+public final class RunMetadata {
+
+  /** Execution statistics of the nodes executed on a device. */
+  public static final class DeviceStepStats {
+
+    /** Returns the name of the device. */
+    public String device() {
+      return device;
+    }
+
+    /** Returns the statistics of each node executed on this device. */
+    public List<NodeExecStats> nodeStats() {
+      return Collections.unmodifiableList(nodeStats);
+    }
+
+    private String device = "";
+    private final List<NodeExecStats> nodeStats = new ArrayList<NodeExecStats>();
+
+    private DeviceStepStats() {}
+  }
+
+  /** Execution statistics of a single node. */
+  public static final class NodeExecStats {
+
+    /** Returns the name of the node. */
+    public String nodeName() {
+      return nodeName;
+    }
+
+    /**
+     * Returns a description of the execution, usually of the form {@code node_name =
+     * OpType(inputs)}.
+     */
+    public String timelineLabel() {
+      return timelineLabel;
+    }
+
+    /** Returns the time at which the node has been scheduled, in microseconds since the epoch. */
+    public long allStartMicros() {
+      return allStartMicros;
+    }
+
+    /** Returns the time at which the op started, relative to {@link #allStartMicros()}. */
+    public long opStartRelMicros() {
+      return opStartRelMicros;
+    }
+
+    /** Returns the time at which the op ended, relative to {@link #allStartMicros()}. */
+    public long opEndRelMicros() {
+      return opEndRelMicros;
+    }
+
+    /**
+     * Returns the time at which the execution of the node completed, relative to {@link
+     * #allStartMicros()}. This is also the total duration of its execution.
+     */
+    public long allEndRelMicros() {
+      return allEndRelMicros;
+    }
+
+    /** Returns the identifier of the thread that executed the node. */
+    public int threadId() {
+      return threadId;
+    }
+
+    /** Returns the memory used by the node, per allocator. */
+    public List<AllocatorMemoryUsed> memory() {
+      return Collections.unmodifiableList(memory);
+    }
+
+    /** Returns the size of the temporary memory used by the node, in bytes. */
+    public long tempMemorySize() {
+      return tempMemorySize;
+    }
+
+    /** Returns the size of the persistent memory used by the node, in bytes. */
+    public long persistentMemorySize() {
+      return persistentMemorySize;
+    }
+
+    private String nodeName = "";
+    private String timelineLabel = "";
+    private long allStartMicros;
+    private long opStartRelMicros;
+    private long opEndRelMicros;
+    private long allEndRelMicros;
+    private int threadId;
+    private final List<AllocatorMemoryUsed> memory = new ArrayList<AllocatorMemoryUsed>();
+    private long tempMemorySize;
+    private long persistentMemorySize;
+
+    private NodeExecStats() {}
+  }
+
+  /** Memory used by a node on one allocator. */
+  public static final class AllocatorMemoryUsed {
+
+    /** Returns the name of the allocator. */
+    public String allocatorName() {
+      return allocatorName;
+    }
+
+    /** Returns the total number of bytes allocated by the node. */
+    public long totalBytes() {
+      return totalBytes;
+    }
+
+    /** Returns the highest number of bytes held at once by the node. */
+    public long peakBytes() {
+      return peakBytes;
+    }
+
+    /** Returns the number of bytes still held when the node completed. */
+    public long liveBytes() {
+      return liveBytes;
+    }
+
+    private String allocatorName = "";
+    private long totalBytes;
+    private long peakBytes;
+    private long liveBytes;
+
+    private AllocatorMemoryUsed() {}
+  }
+
+  /**
+   * Parses serialized metadata.
+   *
+   * @param data a serialized RunMetadata protocol buffer, as found in {@link Session.Run#metadata}
+   * @throws IllegalArgumentException if {@code data} is not a valid RunMetadata protocol buffer
+   */
+  public static RunMetadata parseFrom(byte[] data) {
+    RunMetadata metadata = new RunMetadata();
+    ProtoWire.Reader reader = new ProtoWire.Reader(data);
+    while (reader.next()) {
+      if (reader.field() == 1) { // step_stats
+        ProtoWire.Reader stepStats = reader.readMessage();
+        while (stepStats.next()) {
+          if (stepStats.field() == 1) { // dev_stats
+            metadata.stepStats.add(parseDeviceStepStats(stepStats.readMessage()));
+          } else {
+            stepStats.skip();
+          }
+        }
+      } else {
+        reader.skip();
+      }
+    }
+    return metadata;
+  }
+
+  /** Returns the execution statistics of each device involved in the run. */
+  public List<DeviceStepStats> stepStats() {
+    return Collections.unmodifiableList(stepStats);
+  }
+
+  /**
+   * Exports the step statistics in the JSON trace event format of Chrome.
+   *
+   * <p>Each device is represented as a process, in which each node executed is a complete event
+   * in the thread that executed it.
+   */
+  public String toChromeTrace() {
+    StringBuilder json = new StringBuilder();
+    json.append("{\"traceEvents\":[");
+    boolean first = true;
+    for (int pid = 0; pid < stepStats.size(); ++pid) {
+      DeviceStepStats device = stepStats.get(pid);
+      if (!first) {
+        json.append(',');
+      }
+      first = false;
+      json.append("{\"name\":\"process_name\",\"ph\":\"M\",\"pid\":").append(pid);
+      json.append(",\"args\":{\"name\":");
+      appendString(json, device.device);
+      json.append("}}");
+      for (NodeExecStats node : device.nodeStats) {
+        json.append(",{\"name\":");
+        appendString(json, opName(node));
+        json.append(",\"cat\":\"Op\",\"ph\":\"X\",\"ts\":").append(node.allStartMicros);
+        json.append(",\"dur\":").append(node.allEndRelMicros);
+        json.append(",\"pid\":").append(pid);
+        json.append(",\"tid\":").append(node.threadId);
+        json.append(",\"args\":{\"name\":");
+        appendString(json, node.nodeName);
+        json.append(",\"label\":");
+        appendString(json, node.timelineLabel);
+        json.append("}}");
+      }
+    }
+    json.append("]}");
+    return json.toString();
+  }
+
+  private final List<DeviceStepStats> stepStats = new ArrayList<DeviceStepStats>();
+
+  private RunMetadata() {}
+
+  private static DeviceStepStats parseDeviceStepStats(ProtoWire.Reader reader) {
+    DeviceStepStats device = new DeviceStepStats();
+    while (reader.next()) {
+      switch (reader.field()) {
+        case 1: // device
+          device.device = reader.readString();
+          break;
+        case 2: // node_stats
+          device.nodeStats.add(parseNodeExecStats(reader.readMessage()));
+          break;
+        default:
+          reader.skip();
+      }
+    }
+    return device;
+  }
+
+  private static NodeExecStats parseNodeExecStats(ProtoWire.Reader reader) {
+    NodeExecStats node = new NodeExecStats();
+    while (reader.next()) {
+      switch (reader.field()) {
+        case 1: // node_name
+          node.nodeName = reader.readString();
+          break;
+        case 2: // all_start_micros
+          node.allStartMicros = reader.readVarint();
+          break;
+        case 3: // op_start_rel_micros
+          node.opStartRelMicros = reader.readVarint();
+          break;
+        case 4: // op_end_rel_micros
+          node.opEndRelMicros = reader.readVarint();
+          break;
+        case 5: // all_end_rel_micros
+          node.allEndRelMicros = reader.readVarint();
+          break;
+        case 6: // memory
+          node.memory.add(parseAllocatorMemoryUsed(reader.readMessage()));
+          break;
+        case 8: // timeline_label
+          node.timelineLabel = reader.readString();
+          break;
+        case 10: // thread_id
+          node.threadId = (int) reader.readVarint();
+          break;
+        case 12: // memory_stats
+          ProtoWire.Reader memoryStats = reader.readMessage();
+          while (memoryStats.next()) {
+            if (memoryStats.field() == 1) { // temp_memory_size
+              node.tempMemorySize = memoryStats.readVarint();
+            } else if (memoryStats.field() == 3) { // persistent_memory_size
+              node.persistentMemorySize = memoryStats.readVarint();
+            } else {
+              memoryStats.skip();
+            }
+          }
+          break;
+        default:
+          reader.skip();
+      }
+    }
+    return node;
+  }
+
+  private static AllocatorMemoryUsed parseAllocatorMemoryUsed(ProtoWire.Reader reader) {
+    AllocatorMemoryUsed memory = new AllocatorMemoryUsed();
+    while (reader.next()) {
+      switch (reader.field()) {
+        case 1: // allocator_name
+          memory.allocatorName = reader.readString();
+          break;
+        case 2: // total_bytes
+          memory.totalBytes = reader.readVarint();
+          break;
+        case 3: // peak_bytes
+          memory.peakBytes = reader.readVarint();
+          break;
+        case 4: // live_bytes
+          memory.liveBytes = reader.readVarint();
+          break;
+        default:
+          reader.skip();
+      }
+    }
+    return memory;
+  }
+
+  // The op type is found in the timeline label, e.g. "MatMul" in "y = MatMul(a, b)"
+  private static String opName(NodeExecStats node) {
+    String label = node.timelineLabel;
+    int start = label.indexOf(" = ");
+    int end = label.indexOf('(', start + 3);
+    if (start < 0 || end < 0) {
+      return node.nodeName;
+    }
+    return label.substring(start + 3, end);
+  }
+
+  private static void appendString(StringBuilder json, String value) {
+    json.append('"');
+    for (int i = 0; i < value.length(); ++i) {
+      char c = value.charAt(i);
+      switch (c) {
+        case '"':
+          json.append("\\\"");
+          break;
+        case '\\':
+          json.append("\\\\");
+          break;
+        case '\n':
+          json.append("\\n");
+          break;
+        case '\r':
+          json.append("\\r");
+          break;
+        case '\t':
+          json.append("\\t");
+          break;
+        default:
+          if (c < 0x20) {
+            json.append(String.format("\\u%04x", (int) c));
+          } else {
+            json.append(c);
+          }
+      }
+    }
+    json.append('"');
+  }
+}
@@ -0,0 +1,130 @@
+/* Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+==============================================================================*/
+
+package org.tensorflow;
+
+/**
+ * Options for a single execution of a {@link Session}.
+ *
+ * <p>This is a typed builder of the <a
+ * href="https://www.tensorflow.org/code/tensorflow/core/protobuf/config.proto">RunOptions
+ * protocol buffer</a>, for the options most commonly used. For example, to collect the step
+ * statistics of a run:
+ *
+ * <pre>{@code
+ * Session.Run run = session.runner()
+ *     .feed("x", x)
+ *     .fetch("y")
+ *     .setOptions(RunOptions.create().traceLevel(RunOptions.TraceLevel.FULL_TRACE))
+ *     .runAndFetchMetadata();
+ * RunMetadata metadata = RunMetadata.parseFrom(run.metadata);
+ * }</pre>
+ */
+public final class RunOptions {
+
+  /** Level of tracing of a run, which controls the statistics returned in its metadata. */
+  public enum TraceLevel {
+    NO_TRACE(0),
+    SOFTWARE_TRACE(1),
+    HARDWARE_TRACE(2),
+    FULL_TRACE(3);
+
+    private TraceLevel(int value) {
+      this.value = value;
+    }
+
+    private final int value;
+  }
+
+  /** Creates default run options. */
+  public static RunOptions create() {
+    return new RunOptions();
+  }
+
+  /**
+   * Sets the level of tracing of the run.
+   *
+   * <p>{@link TraceLevel#NO_TRACE} is used by default.
+   */
+  public RunOptions traceLevel(TraceLevel value) {
+    traceLevel = value;
+    return this;
+  }
+
+  /**
+   * Sets the time allowed for the run to complete, in milliseconds.
+   *
+   * <p>By default, or if {@code value} is not positive, the timeout configured for the session
+   * applies.
+   */
+  public RunOptions timeoutInMs(long value) {
+    timeoutInMs = value;
+    return this;
+  }
+
+  /**
+   * Selects the inter-op thread pool of the session used to execute the run.
+   *
+   * <p>The index refers to the thread pools configured for the session, 0 by default.
+   */
+  public RunOptions interOpThreadPool(int value) {
+    interOpThreadPool = value;
+    return this;
+  }
+
+  /** Returns the partition graphs executed by the run in its metadata. False by default. */
+  public RunOptions outputPartitionGraphs(boolean value) {
+    outputPartitionGraphs = value;
+    return this;
+  }
+
+  /**
+   * Reports the tensors allocated on a device when this device runs out of memory during the run.
+   * False by default.
+   */
+  public RunOptions reportTensorAllocationsUponOom(boolean value) {
+    reportTensorAllocationsUponOom = value;
+    return this;
+  }
+
+  /** Returns the serialized RunOptions protocol buffer. */
+  public byte[] toByteArray() {
+    ProtoWire.Writer writer = new ProtoWire.Writer();
+    if (traceLevel != TraceLevel.NO_TRACE) {
+      writer.writeVarint(1, traceLevel.value);
+    }
+    if (timeoutInMs != 0) {
+      writer.writeVarint(2, timeoutInMs);
+    }
+    if (interOpThreadPool != 0) {
+      writer.writeVarint(3, interOpThreadPool);
+    }
+    if (outputPartitionGraphs) {
+      writer.writeBool(5, true);
+    }
+    if (reportTensorAllocationsUponOom) {
+      writer.writeBool(7, true);
+    }
+    return writer.toByteArray();
+  }
+
+  private TraceLevel traceLevel = TraceLevel.NO_TRACE;
+  private long timeoutInMs = 0;
+  private int interOpThreadPool = 0;
+  private boolean outputPartitionGraphs = false;
+  private boolean reportTensorAllocationsUponOom = false;
+
+  private RunOptions() {}
+}
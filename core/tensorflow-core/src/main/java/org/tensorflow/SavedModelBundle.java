@@ -56,6 +56,15 @@ public class SavedModelBundle implements AutoCloseable {
       return this;
     }
 
+    /**
+     * Set configuration of the <code>Session</code> object created when loading the model.
+     *
+     * @param config configuration of the session
+     */
+    public Loader withConfigProto(SessionConfig config) {
+      return withConfigProto(config.toByteArray());
+    }
+
     /**
      * Sets the set of tags that identify the specific graph in the saved model to load.
      *
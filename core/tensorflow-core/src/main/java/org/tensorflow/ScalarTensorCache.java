@@ -0,0 +1,128 @@
+/* Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+==============================================================================*/
+
+package org.tensorflow;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A cache of immutable scalar tensors, shared between all their users.
+ *
+ * <p>Scalars such as flags, learning rates or keep probabilities are often fed to a session with
+ * the same values on every run. Getting them from this cache avoids the allocation and release of
+ * a new native tensor each time:
+ *
+ * <pre>{@code
+ * ScalarTensorCache scalars = ScalarTensorCache.shared();
+ * session.runner()
+ *     .feed("input", input)
+ *     .feed("keep_prob", scalars.get(1.0f))
+ *     .feed("is_training", scalars.get(false))
+ *     .fetch("output")
+ *     .run();
+ * }</pre>
+ *
+ * <p>Tensors returned by a cache are owned by the cache: they must not be closed by the caller,
+ * and calling {@link Tensor#close()} on them has no effect. They cannot be used as destinations of
+ * {@link Session.Runner#fetch(Output, Tensor)} either, so their value never changes.
+ *
+ * <p>A cache keeps one tensor per distinct type and value for as long as it is itself reachable,
+ * and never evicts any of them: tensors may still be in use by other threads, so releasing them
+ * while the cache is in use would not be safe. Caches should therefore only hold a limited set of
+ * constant values, not values that change on every run. The tensors of the {@link #shared()}
+ * cache are kept until the JVM exits.
+ *
+ * <p>Instances of this class are thread-safe.
+ */
+public final class ScalarTensorCache {
+
+  /** Returns the cache shared by the whole application. */
+  public static ScalarTensorCache shared() {
+    return SHARED;
+  }
+
+  /** Creates a new, empty cache. */
+  public ScalarTensorCache() {}
+
+  /** Returns a shared scalar tensor containing a {@code float} value. */
+  public Tensor<Float> get(float value) {
+    return get(DataType.FLOAT, Float.floatToIntBits(value), value).expect(Float.class);
+  }
+
+  /** Returns a shared scalar tensor containing a {@code double} value. */
+  public Tensor<Double> get(double value) {
+    return get(DataType.DOUBLE, Double.doubleToLongBits(value), value).expect(Double.class);
+  }
+
+  /** Returns a shared scalar tensor containing an {@code int} value. */
+  public Tensor<Integer> get(int value) {
+    return get(DataType.INT32, value, value).expect(Integer.class);
+  }
+
+  /** Returns a shared scalar tensor containing a {@code long} value. */
+  public Tensor<Long> get(long value) {
+    return get(DataType.INT64, value, value).expect(Long.class);
+  }
+
+  /** Returns a shared scalar tensor containing a {@code boolean} value. */
+  public Tensor<Boolean> get(boolean value) {
+    return get(DataType.BOOL, value ? 1 : 0, value).expect(Boolean.class);
+  }
+
+  /** Returns the number of tensors currently kept by this cache. */
+  public synchronized int size() {
+    return tensors.size();
+  }
+
+  private static final ScalarTensorCache SHARED = new ScalarTensorCache();
+
+  private final Map<Key, Tensor<?>> tensors = new HashMap<>();
+
+  private synchronized Tensor<?> get(DataType dataType, long bits, Object value) {
+    Key key = new Key(dataType, bits);
+    Tensor<?> tensor = tensors.get(key);
+    if (tensor == null) {
+      tensor = Tensor.create(value).share();
+      tensors.put(key, tensor);
+    }
+    return tensor;
+  }
+
+  private static final class Key {
+
+    Key(DataType dataType, long bits) {
+      this.dataType = dataType;
+      this.bits = bits;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key other = (Key) o;
+      return dataType == other.dataType && bits == other.bits;
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * dataType.hashCode() + (int) (bits ^ (bits >>> 32));
+    }
+
+    private final DataType dataType;
+    private final long bits;
+  }
+}
@@ -16,7 +16,13 @@ limitations under the License.
 package org.tensorflow;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Driver for {@link Graph} execution.
@@ -49,7 +55,7 @@ public final class Session implements AutoCloseable {
 
   /** Construct a new session with the associated {@link Graph}. */
   public Session(Graph g) {
-    this(g, null);
+    this(g, (byte[]) null);
   }
 
   /**
@@ -74,6 +80,16 @@ public final class Session implements AutoCloseable {
     }
   }
 
+  /**
+   * Construct a new session with the associated {@link Graph} and configuration options.
+   *
+   * @param g The {@link Graph} the created Session will operate on.
+   * @param config Configuration parameters for the session.
+   */
+  public Session(Graph g, SessionConfig config) {
+    this(g, config.toByteArray());
+  }
+
   /** Wrap an existing session with the associated {@link Graph}. */
   Session(Graph g, long nativeHandle) {
     graph = g;
@@ -85,7 +101,8 @@ public final class Session implements AutoCloseable {
    * Release resources associated with the Session.
    *
    * <p>Blocks until there are no active executions ({@link Session.Runner#run()} calls). A Session
-   * is not usable after close returns.
+   * is not usable after close returns, and all the {@link SessionCallable callables} it created
+   * are released.
    */
   @Override
   public void close() {
@@ -105,6 +122,103 @@ public final class Session implements AutoCloseable {
       }
       delete(nativeHandle);
       nativeHandle = 0;
+      callables.clear();
+    }
+  }
+
+  /**
+   * Cancels all executions of this session in progress, from any thread.
+   *
+   * <p>Pending calls to {@link Session.Runner#run()} and other executions are aborted and fail
+   * with an exception. The session cannot execute graphs anymore after this method returns, but
+   * it still needs to be released by {@link #close()}. Like always, {@code close()} waits for
+   * these executions to return, which they now do as soon as they are aborted.
+   *
+   * <p>TensorFlow does not support the cancellation of a single execution: to abort only the
+   * executions that take too long, set a deadline to each of them with {@link
+   * Session.Runner#setTimeout(long, TimeUnit)} instead.
+   */
+  public void cancel() {
+    synchronized (nativeHandleLock) {
+      if (nativeHandle == 0) {
+        return;
+      }
+      cancel(nativeHandle);
+    }
+  }
+
+  /**
+   * A device on which this session can execute operations.
+   *
+   * @see #listDevices()
+   */
+  public static final class Device {
+
+    /**
+     * Returns the fully qualified name of the device, e.g. {@code
+     * /job:localhost/replica:0/task:0/device:CPU:0}.
+     */
+    public String name() {
+      return name;
+    }
+
+    /** Returns the type of the device, e.g. {@code CPU} or {@code GPU}. */
+    public String type() {
+      return type;
+    }
+
+    /** Returns the amount of memory available on the device, in bytes. */
+    public long memoryBytes() {
+      return memoryBytes;
+    }
+
+    @Override
+    public String toString() {
+      return name;
+    }
+
+    private final String name;
+    private final String type;
+    private final long memoryBytes;
+
+    private Device(String name, String type, long memoryBytes) {
+      this.name = name;
+      this.type = type;
+      this.memoryBytes = memoryBytes;
+    }
+  }
+
+  /**
+   * Returns the devices on which this session can execute operations.
+   *
+   * <p>Operations are placed on these devices with {@link OperationBuilder#setDevice(String)} or
+   * {@link org.tensorflow.op.Scope#withDevice(String)}. The number of CPU devices of a session can
+   * be raised with {@link SessionConfig#deviceCount(String, int)}, to partition a large graph
+   * between them.
+   *
+   * @throws IllegalStateException if this session has been closed
+   */
+  public List<Device> listDevices() {
+    synchronized (nativeHandleLock) {
+      if (nativeHandle == 0) {
+        throw new IllegalStateException(
+            "listDevices() cannot be called on the Session after close()");
+      }
+      long listHandle = listDevices(nativeHandle);
+      try {
+        int count = deviceCount(listHandle);
+        List<Device> devices = new ArrayList<Device>(count);
+        for (int i = 0; i < count; ++i) {
+          devices.add(
+              new Device(
+                  deviceName(listHandle, i),
+                  deviceType(listHandle, i),
+                  deviceMemoryBytes(listHandle, i)));
+        }
+        return devices;
+      } finally {
+        deleteDeviceList(listHandle);
+      }
     }
   }
 
@@ -116,6 +230,22 @@ public final class Session implements AutoCloseable {
    * callers to override the value of {@link Tensor Tensors} in the graph by substituting the
    * provided {@link Tensor Tensors} for the outputs of the operations provided to {@link
    * #feed(String,int,Tensor)}.
+   *
+   * <p>A Runner can be reused for multiple runs of the same graph fragments, which saves the
+   * resolution of its operations and the allocation of its internal state on each run. Only the
+   * tensors fed need to be replaced between runs, by their position:
+   *
+   * <pre>{@code
+   * Session.Runner runner = session.runner().feed("x", x).fetch("y");
+   * while (...) {
+   *   runner.reset().setInput(0, nextX);
+   *   try (Tensor<?> y = runner.run().get(0)) {
+   *     ...
+   *   }
+   * }
+   * }</pre>
+   *
+   * <p>Runners are not thread-safe: each thread executing the session needs its own.
    */
   public final class Runner {
     /**
@@ -142,8 +272,7 @@ public final class Session implements AutoCloseable {
     public Runner feed(String operation, int index, Tensor<?> t) {
       Operation op = operationByName(operation);
       if (op != null) {
-        inputs.add(op.output(index));
-        inputTensors.add(t);
+        feed(op.output(index), t);
       }
       return this;
     }
@@ -155,6 +284,21 @@ public final class Session implements AutoCloseable {
     public Runner feed(Operand<?> operand, Tensor<?> t) {
       inputs.add(operand.asOutput());
       inputTensors.add(t);
+      prepared = false;
+      return this;
+    }
+
+    /**
+     * Replaces the tensor fed at position {@code slot}.
+     *
+     * <p>Slots are numbered from 0, in the order the values to feed have been added to this
+     * runner. A value to feed can be added with a null tensor, to be set with this method before
+     * each run.
+     *
+     * @throws IndexOutOfBoundsException if there is no value to feed at {@code slot}
+     */
+    public Runner setInput(int slot, Tensor<?> t) {
+      inputTensors.set(slot, t);
       return this;
     }
 
@@ -181,7 +325,7 @@ public final class Session implements AutoCloseable {
     public Runner fetch(String operation, int index) {
       Operation op = operationByName(operation);
       if (op != null) {
-        outputs.add(op.output(index));
+        fetch(op.output(index));
       }
       return this;
     }
@@ -191,6 +335,8 @@ public final class Session implements AutoCloseable {
      */
     public Runner fetch(Output<?> output) {
       outputs.add(output);
+      outputTensors.add(null);
+      prepared = false;
       return this;
     }
     
@@ -201,6 +347,61 @@ public final class Session implements AutoCloseable {
       return fetch(operand.asOutput());
     }
 
+    /**
+     * Makes {@link #run()} store the output of {@code operation} in {@code dst}.
+     *
+     * <p>This is like {@link #fetch(String)}, but the value fetched is returned in a tensor
+     * provided by the caller, instead of a new {@link Tensor} instance. See {@link
+     * #fetch(Output, Tensor)}.
+     */
+    public Runner fetch(String operation, Tensor<?> dst) {
+      return fetch(parseOutput(operation), dst);
+    }
+
+    /**
+     * Makes {@link #run()} store the tensor referred to by {@code output} in {@code dst}.
+     *
+     * <p>When the shape of an output is known in advance, a tensor can be preallocated once to
+     * receive its value, and reused on each run (or picked from a ring of tensors, if the previous
+     * results are still in use), which saves the creation of a new {@link Tensor} instance per
+     * output per run.
+     *
+     * <p>The value is not copied: TensorFlow always allocates the memory of the outputs it
+     * computes, so {@code dst} takes the ownership of the memory allocated for this output and
+     * releases its previous one.
+     *
+     * <p>{@code dst} is returned by {@link #run()} at the position of this output, but the caller
+     * keeps its ownership: it is not closed by the session and it remains the responsibility of
+     * the caller to close it once it is no longer needed.
+     *
+     * @throws IllegalArgumentException if {@code dst} is a {@link String} tensor, as the size of
+     *     those cannot be known in advance, or if it is shared by a {@link ScalarTensorCache}.
+     *     {@link #run()} also throws this exception if the type or the shape of the fetched value
+     *     does not match {@code dst}.
+     */
+    public Runner fetch(Output<?> output, Tensor<?> dst) {
+      if (dst.dataType() == DataType.STRING) {
+        throw new IllegalArgumentException("Values cannot be fetched into a String tensor");
+      }
+      if (dst.isShared()) {
+        throw new IllegalArgumentException("Values cannot be fetched into a shared tensor");
+      }
+      outputs.add(output);
+      outputTensors.add(dst);
+      prepared = false;
+      return this;
+    }
+
+    /**
+     * Makes {@link #run()} store the tensor referred to by the output of {@code operand} in {@code
+     * dst}.
+     *
+     * @see #fetch(Output, Tensor)
+     */
+    public Runner fetch(Operand<?> operand, Tensor<?> dst) {
+      return fetch(operand.asOutput(), dst);
+    }
+
     /**
      * Make {@link #run()} execute {@code operation}, but not return any evaluated {@link Tensor
      * Tensors}.
@@ -208,7 +409,7 @@ public final class Session implements AutoCloseable {
     public Runner addTarget(String operation) {
       GraphOperation op = operationByName(operation);
       if (op != null) {
-        targets.add(op);
+        addTarget(op);
       }
       return this;
     }
@@ -220,13 +421,8 @@ public final class Session implements AutoCloseable {
      * @throws IllegalArgumentException if the operation is not a {@link GraphOperation}
      */
     public Runner addTarget(Operation operation) {
-      if (!(operation instanceof GraphOperation)) {
-        throw new IllegalArgumentException(
-            "Operation of type "
-                + operation.getClass().getName()
-                + " is not supported in graph sessions");
-      }
-      targets.add((GraphOperation) operation);
+      targets.add(graphOperation(operation));
+      prepared = false;
       return this;
     }
 
@@ -254,6 +450,33 @@ public final class Session implements AutoCloseable {
      */
     public Runner setOptions(byte[] options) {
       this.runOptions = options;
+      prepared = false;
+      return this;
+    }
+
+    /**
+     * Sets options for this run.
+     *
+     * @see RunOptions
+     */
+    public Runner setOptions(RunOptions options) {
+      return setOptions(options.toByteArray());
+    }
+
+    /**
+     * Sets a deadline for {@link #run()} to complete.
+     *
+     * <p>If the execution of the graph takes longer than {@code timeout}, it is aborted and {@link
+     * #run()} throws a {@link DeadlineExceededException}, so the caller can give up on this
+     * request instead of keeping a thread blocked. This overrides the timeout found in the options
+     * set by {@link #setOptions(byte[])}, if any.
+     *
+     * @param timeout the maximum time to wait, or 0 for no deadline
+     * @param unit the unit of {@code timeout}
+     */
+    public Runner setTimeout(long timeout, TimeUnit unit) {
+      this.timeoutInMs = unit.toMillis(timeout);
+      prepared = false;
       return this;
     }
 
@@ -288,36 +511,42 @@ public final class Session implements AutoCloseable {
       return runHelper(true);
     }
 
-    private Run runHelper(boolean wantMetadata) {
-      long[] inputTensorHandles = new long[inputTensors.size()];
-      long[] inputOpHandles = new long[inputs.size()];
-      int[] inputOpIndices = new int[inputs.size()];
-      long[] outputOpHandles = new long[outputs.size()];
-      int[] outputOpIndices = new int[outputs.size()];
-      long[] targetOpHandles = new long[targets.size()];
-      long[] outputTensorHandles = new long[outputs.size()];
-
-      // It's okay to use Operation.getUnsafeNativeHandle() here since the safety depends on the
-      // validity of the Graph and graphRef ensures that.
-      int idx = 0;
-      for (Tensor<?> t : inputTensors) {
-        inputTensorHandles[idx++] = t.getNativeHandle();
+    /**
+     * Clears the tensors fed to this runner, so it can be reused for another run.
+     *
+     * <p>The values to feed and to fetch, the targets and the options of the runner are kept, with
+     * their operations already resolved. A tensor must be fed again at each position with {@link
+     * #setInput(int, Tensor)} before the next run. Tensors into which values are fetched are kept
+     * as well, since they are meant to be reused.
+     */
+    public Runner reset() {
+      for (int i = 0; i < inputTensors.size(); ++i) {
+        inputTensors.set(i, null);
       }
-      idx = 0;
-      for (Output<?> o : inputs) {
-        inputOpHandles[idx] = o.getUnsafeNativeHandle();
-        inputOpIndices[idx] = o.index();
-        idx++;
+      return this;
+    }
+
+    private Run runHelper(boolean wantMetadata) {
+      if (!prepared) {
+        prepare();
       }
-      idx = 0;
-      for (Output<?> o : outputs) {
-        outputOpHandles[idx] = o.getUnsafeNativeHandle();
-        outputOpIndices[idx] = o.index();
-        idx++;
+      for (int i = 0; i < inputTensorHandles.length; ++i) {
+        Tensor<?> t = inputTensors.get(i);
+        if (t == null) {
+          throw new IllegalStateException("No tensor has been fed at slot " + i);
+        }
+        inputTensorHandles[i] = t.getNativeHandle();
       }
-      idx = 0;
-      for (GraphOperation op : targets) {
-        targetOpHandles[idx++] = op.getUnsafeNativeHandle();
+      for (int i = 0; i < outputTensorHandles.length; ++i) {
+        Tensor<?> t = outputTensors.get(i);
+        if (t == null) {
+          outputTensorHandles[i] = 0;
+        } else {
+          outputTensorHandles[i] = t.getNativeHandle();
+          if (outputTensorHandles[i] == 0) {
+            throw new IllegalStateException("Cannot fetch values into a closed Tensor");
+          }
+        }
       }
       Reference runRef = new Reference();
       byte[] metadata = null;
@@ -325,7 +554,7 @@ public final class Session implements AutoCloseable {
         metadata =
             Session.run(
                 nativeHandle,
-                runOptions,
+                options,
                 inputTensorHandles,
                 inputOpHandles,
                 inputOpIndices,
@@ -336,14 +565,33 @@ public final class Session implements AutoCloseable {
                 outputTensorHandles);
       } finally {
         runRef.close();
+        // Fed tensors may be temporaries, only referenced by this runner while they are being run
+        for (int i = 0; i < inputTensors.size(); ++i) {
+          inputTensors.get(i).keepAlive();
+        }
       }
-      List<Tensor<?>> outputs = new ArrayList<Tensor<?>>();
-      for (long h : outputTensorHandles) {
+      // Tensors provided by the caller take ownership of the values fetched for them, in place of
+      // their previous memory
+      for (int i = 0; i < outputTensorHandles.length; ++i) {
+        Tensor<?> dst = outputTensors.get(i);
+        if (dst != null) {
+          dst.replaceNativeHandle(outputTensorHandles[i]);
+        }
+      }
+      List<Tensor<?>> outputs = new ArrayList<Tensor<?>>(outputTensorHandles.length);
+      for (int i = 0; i < outputTensorHandles.length; ++i) {
+        Tensor<?> dst = outputTensors.get(i);
+        if (dst != null) {
+          outputs.add(dst);
+          continue;
+        }
         try {
-          outputs.add(Tensor.fromHandle(h));
+          outputs.add(Tensor.fromHandle(outputTensorHandles[i]));
         } catch (Exception e) {
-          for (Tensor<?> t : outputs) {
-            t.close();
+          for (int j = 0; j < outputs.size(); ++j) {
+            if (outputTensors.get(j) == null) {
+              outputs.get(j).close();
+            }
           }
           outputs.clear();
           throw e;
@@ -355,62 +603,408 @@ public final class Session implements AutoCloseable {
       return ret;
     }
 
-    private class Reference implements AutoCloseable {
-      public Reference() {
-        synchronized (nativeHandleLock) {
-          if (nativeHandle == 0) {
-            throw new IllegalStateException("run() cannot be called on the Session after close()");
-          }
-          ++numActiveRuns;
+    // Collects the native handles of the operations and the options of the run, which are reused
+    // until the runner is modified.
+    private void prepare() {
+      inputTensorHandles = new long[inputs.size()];
+      inputOpHandles = new long[inputs.size()];
+      inputOpIndices = new int[inputs.size()];
+      outputOpHandles = new long[outputs.size()];
+      outputOpIndices = new int[outputs.size()];
+      targetOpHandles = new long[targets.size()];
+      outputTensorHandles = new long[outputs.size()];
+
+      // It's okay to use Operation.getUnsafeNativeHandle() here since the safety depends on the
+      // validity of the Graph and graphRef ensures that.
+      int idx = 0;
+      for (Output<?> o : inputs) {
+        inputOpHandles[idx] = o.getUnsafeNativeHandle();
+        inputOpIndices[idx] = o.index();
+        idx++;
+      }
+      idx = 0;
+      for (Output<?> o : outputs) {
+        outputOpHandles[idx] = o.getUnsafeNativeHandle();
+        outputOpIndices[idx] = o.index();
+        idx++;
+      }
+      idx = 0;
+      for (GraphOperation op : targets) {
+        targetOpHandles[idx++] = op.getUnsafeNativeHandle();
+      }
+      options = runOptions;
+      if (timeoutInMs > 0) {
+        // A field found last in a serialized protocol buffer overrides previous occurrences
+        byte[] timeout = new ProtoWire.Writer().writeVarint(2, timeoutInMs).toByteArray();
+        if (options == null) {
+          options = timeout;
+        } else {
+          options = Arrays.copyOf(options, options.length + timeout.length);
+          System.arraycopy(timeout, 0, options, runOptions.length, timeout.length);
         }
       }
+      prepared = true;
+    }
 
-      @Override
-      public void close() {
-        synchronized (nativeHandleLock) {
-          if (nativeHandle == 0) {
-            return;
-          }
-          if (--numActiveRuns == 0) {
-            nativeHandleLock.notifyAll();
-          }
-        }
+    private final ArrayList<Output<?>> inputs = new ArrayList<Output<?>>();
+    private final ArrayList<Tensor<?>> inputTensors = new ArrayList<Tensor<?>>();
+    private final ArrayList<Output<?>> outputs = new ArrayList<Output<?>>();
+    private final ArrayList<Tensor<?>> outputTensors = new ArrayList<Tensor<?>>();
+    private final ArrayList<GraphOperation> targets = new ArrayList<GraphOperation>();
+    private byte[] runOptions = null;
+    private long timeoutInMs = 0;
+
+    // Native state of the run, collected by prepare()
+    private boolean prepared = false;
+    private long[] inputTensorHandles;
+    private long[] inputOpHandles;
+    private int[] inputOpIndices;
+    private long[] outputOpHandles;
+    private int[] outputOpIndices;
+    private long[] targetOpHandles;
+    private long[] outputTensorHandles;
+    private byte[] options;
+  }
+
+  /** Create a Runner to execute graph operations and evaluate Tensors. */
+  public Runner runner() {
+    return new Runner();
+  }
+
+  /**
+   * Creates a callable that executes this session repeatedly with a fixed signature.
+   *
+   * <p>All operations named in {@code options} are looked up once, here, so the cost of each call
+   * is limited to the execution of the graph itself. The session also caches the pruned graph it
+   * executes for this signature after the first call.
+   *
+   * <p>The callable is released when this session is closed, if not released explicitly before.
+   *
+   * @param options the values fed and fetched by the callable, and the operations it executes
+   * @return a new callable
+   * @throws IllegalArgumentException if an operation named in {@code options} is not in the graph
+   * @throws IllegalStateException if this session has been closed
+   */
+  public SessionCallable makeCallable(CallableOptions options) {
+    List<String> feeds = options.feeds();
+    List<String> fetches = options.fetches();
+    List<String> targets = options.targets();
+    long[] inputOpHandles = new long[feeds.size()];
+    int[] inputOpIndices = new int[feeds.size()];
+    long[] outputOpHandles = new long[fetches.size()];
+    int[] outputOpIndices = new int[fetches.size()];
+    long[] targetOpHandles = new long[targets.size()];
+
+    int idx = 0;
+    for (String feed : feeds) {
+      Output<?> o = parseOutput(feed);
+      inputOpHandles[idx] = o.getUnsafeNativeHandle();
+      inputOpIndices[idx] = o.index();
+      idx++;
+    }
+    idx = 0;
+    for (String fetch : fetches) {
+      Output<?> o = parseOutput(fetch);
+      outputOpHandles[idx] = o.getUnsafeNativeHandle();
+      outputOpIndices[idx] = o.index();
+      idx++;
+    }
+    idx = 0;
+    for (String target : targets) {
+      targetOpHandles[idx++] = operationByName(target).getUnsafeNativeHandle();
+    }
+    byte[] runOptions = options.runOptions();
+    SessionCallable callable =
+        new SessionCallable(
+            this,
+            runOptions == null ? null : runOptions.clone(),
+            inputOpHandles,
+            inputOpIndices,
+            outputOpHandles,
+            outputOpIndices,
+            targetOpHandles);
+    synchronized (nativeHandleLock) {
+      if (nativeHandle == 0) {
+        throw new IllegalStateException(
+            "makeCallable() cannot be called on the Session after close()");
       }
+      callables.add(callable);
     }
+    return callable;
+  }
 
-    private GraphOperation operationByName(String opName) {
-      GraphOperation op = graph.operation(opName);
-      if (op == null) {
-        throw new IllegalArgumentException("No Operation named [" + opName + "] in the Graph");
+  List<Tensor<?>> runCallable(SessionCallable callable, long[] inputTensorHandles) {
+    synchronized (nativeHandleLock) {
+      if (!callables.contains(callable)) {
+        throw new IllegalStateException("call() cannot be called on a released callable");
+      }
+    }
+    long[] outputTensorHandles = new long[callable.outputOpHandles.length];
+    Reference runRef = new Reference();
+    try {
+      Session.run(
+          nativeHandle,
+          callable.runOptions,
+          inputTensorHandles,
+          callable.inputOpHandles,
+          callable.inputOpIndices,
+          callable.outputOpHandles,
+          callable.outputOpIndices,
+          callable.targetOpHandles,
+          false,
+          outputTensorHandles);
+    } finally {
+      runRef.close();
+    }
+    List<Tensor<?>> outputs = new ArrayList<Tensor<?>>(outputTensorHandles.length);
+    try {
+      for (long h : outputTensorHandles) {
+        outputs.add(Tensor.fromHandle(h));
+      }
+    } catch (RuntimeException e) {
+      for (Tensor<?> t : outputs) {
+        t.close();
       }
-      return op;
+      throw e;
+    }
+    return outputs;
+  }
+
+  void releaseCallable(SessionCallable callable) {
+    synchronized (nativeHandleLock) {
+      callables.remove(callable);
+    }
+  }
+
+  /**
+   * Prepares the incremental execution of a graph, where values are fed and fetched in several
+   * steps.
+   *
+   * <p>A partial run keeps the intermediate results of the graph in the TensorFlow runtime between
+   * its steps. This is useful when some inputs depend on outputs computed in a previous step, e.g.
+   * to run an encoder once and then feed the decoder step by step, without recomputing the
+   * encoder or copying its outputs back and forth. For example:
+   *
+   * <pre>{@code
+   * try (Session.PartialRun run =
+   *     s.partialRunSetup(Arrays.asList(x, y), Arrays.asList(a, b), new ArrayList<Operation>())) {
+   *   try (Tensor<?> ta = run.feed(x, tx).fetch(a).run().get(0)) {
+   *     ...
+   *   }
+   *   try (Tensor<?> tb = run.feed(y, ty).fetch(b).run().get(0)) {
+   *     ...
+   *   }
+   * }
+   * }</pre>
+   *
+   * <p>Each feed and each fetch declared here must be used in exactly one step of the partial run.
+   *
+   * @param feeds all values that will be fed during the partial run
+   * @param fetches all values that will be fetched during the partial run
+   * @param targets all operations that will be executed without being fetched during the partial
+   *     run
+   * @return a partial run, which must be closed once all its steps have been executed
+   * @throws IllegalArgumentException if a target is not a {@link GraphOperation}
+   */
+  public PartialRun partialRunSetup(
+      List<? extends Operand<?>> feeds,
+      List<? extends Operand<?>> fetches,
+      List<? extends Operation> targets) {
+    long[] inputOpHandles = new long[feeds.size()];
+    int[] inputOpIndices = new int[feeds.size()];
+    long[] outputOpHandles = new long[fetches.size()];
+    int[] outputOpIndices = new int[fetches.size()];
+    long[] targetOpHandles = new long[targets.size()];
+
+    int idx = 0;
+    for (Operand<?> feed : feeds) {
+      Output<?> o = feed.asOutput();
+      inputOpHandles[idx] = o.getUnsafeNativeHandle();
+      inputOpIndices[idx] = o.index();
+      idx++;
+    }
+    idx = 0;
+    for (Operand<?> fetch : fetches) {
+      Output<?> o = fetch.asOutput();
+      outputOpHandles[idx] = o.getUnsafeNativeHandle();
+      outputOpIndices[idx] = o.index();
+      idx++;
+    }
+    idx = 0;
+    for (Operation op : targets) {
+      targetOpHandles[idx++] = graphOperation(op).getUnsafeNativeHandle();
+    }
+    Reference runRef = new Reference();
+    try {
+      return new PartialRun(
+          partialRunSetup(
+              nativeHandle,
+              inputOpHandles,
+              inputOpIndices,
+              outputOpHandles,
+              outputOpIndices,
+              targetOpHandles));
+    } finally {
+      runRef.close();
+    }
+  }
+
+  /**
+   * The incremental execution of a graph, prepared by {@link #partialRunSetup(List, List, List)}.
+   *
+   * <p>Each step of a partial run feeds and fetches values like a {@link Runner}: the feeds,
+   * fetches and targets added since the previous step are all used by the next call to {@link
+   * #run()}, which then starts a new step.
+   *
+   * <p><b>WARNING:</b> A partial run owns resources that <b>must</b> be explicitly freed by
+   * invoking {@link #close()}. Unlike a {@link Session}, a partial run is not thread-safe, its
+   * steps must be executed sequentially.
+   */
+  public final class PartialRun implements AutoCloseable {
+
+    /**
+     * Feeds {@code t} for the value produced by {@code operation} in the next step.
+     *
+     * @see Runner#feed(String, Tensor)
+     */
+    public PartialRun feed(String operation, Tensor<?> t) {
+      return feed(parseOutput(operation), t);
+    }
+
+    /** Feeds {@code t} for the value referred to by {@code operand} in the next step. */
+    public PartialRun feed(Operand<?> operand, Tensor<?> t) {
+      inputs.add(operand.asOutput());
+      inputTensors.add(t);
+      return this;
+    }
+
+    /**
+     * Makes the next step return the output of {@code operation}.
+     *
+     * @see Runner#fetch(String)
+     */
+    public PartialRun fetch(String operation) {
+      return fetch(parseOutput(operation));
+    }
+
+    /** Makes the next step return the tensor referred to by {@code operand}. */
+    public PartialRun fetch(Operand<?> operand) {
+      outputs.add(operand.asOutput());
+      return this;
     }
 
-    @SuppressWarnings("rawtypes")
-    private Output<?> parseOutput(String opName) {
-      int colon = opName.lastIndexOf(':');
-      if (colon == -1 || colon == opName.length() - 1) {
-        return new Output(operationByName(opName), 0);
+    /**
+     * Makes the next step execute {@code operation}, but not return any evaluated {@link Tensor
+     * Tensors}.
+     *
+     * @throws IllegalArgumentException if the operation is not a {@link GraphOperation}
+     */
+    public PartialRun addTarget(Operation operation) {
+      targets.add(graphOperation(operation));
+      return this;
+    }
+
+    /**
+     * Executes the next step of this partial run, computing the values fetched since the previous
+     * step.
+     *
+     * <p><b>WARNING:</b> The caller assumes ownership of all returned {@link Tensor Tensors}.
+     *
+     * @throws IllegalStateException if the partial run or its session has been closed
+     */
+    public List<Tensor<?>> run() {
+      if (handle == 0) {
+        throw new IllegalStateException("run() cannot be called on a closed partial run");
+      }
+      long[] inputTensorHandles = new long[inputTensors.size()];
+      long[] inputOpHandles = new long[inputs.size()];
+      int[] inputOpIndices = new int[inputs.size()];
+      long[] outputOpHandles = new long[outputs.size()];
+      int[] outputOpIndices = new int[outputs.size()];
+      long[] targetOpHandles = new long[targets.size()];
+      long[] outputTensorHandles = new long[outputs.size()];
+
+      int idx = 0;
+      for (Tensor<?> t : inputTensors) {
+        inputTensorHandles[idx++] = t.getNativeHandle();
       }
+      idx = 0;
+      for (Output<?> o : inputs) {
+        inputOpHandles[idx] = o.getUnsafeNativeHandle();
+        inputOpIndices[idx] = o.index();
+        idx++;
+      }
+      idx = 0;
+      for (Output<?> o : outputs) {
+        outputOpHandles[idx] = o.getUnsafeNativeHandle();
+        outputOpIndices[idx] = o.index();
+        idx++;
+      }
+      idx = 0;
+      for (GraphOperation op : targets) {
+        targetOpHandles[idx++] = op.getUnsafeNativeHandle();
+      }
+      inputs.clear();
+      outputs.clear();
+      targets.clear();
+
+      Reference runRef = new Reference();
       try {
-        String op = opName.substring(0, colon);
-        int index = Integer.parseInt(opName.substring(colon + 1));
-        return new Output(operationByName(op), index);
-      } catch (NumberFormatException e) {
-        return new Output(operationByName(opName), 0);
+        Session.partialRun(
+            nativeHandle,
+            handle,
+            inputTensorHandles,
+            inputOpHandles,
+            inputOpIndices,
+            outputOpHandles,
+            outputOpIndices,
+            targetOpHandles,
+            outputTensorHandles);
+      } finally {
+        runRef.close();
+        // Fed tensors must remain reachable until the native call returns
+        for (Tensor<?> t : inputTensors) {
+          t.keepAlive();
+        }
+        inputTensors.clear();
+      }
+      List<Tensor<?>> ret = new ArrayList<Tensor<?>>(outputTensorHandles.length);
+      try {
+        for (long h : outputTensorHandles) {
+          ret.add(Tensor.fromHandle(h));
+        }
+      } catch (RuntimeException e) {
+        for (Tensor<?> t : ret) {
+          t.close();
+        }
+        throw e;
       }
+      return ret;
     }
 
-    private ArrayList<Output<?>> inputs = new ArrayList<Output<?>>();
-    private ArrayList<Tensor<?>> inputTensors = new ArrayList<Tensor<?>>();
-    private ArrayList<Output<?>> outputs = new ArrayList<Output<?>>();
-    private ArrayList<GraphOperation> targets = new ArrayList<GraphOperation>();
-    private byte[] runOptions = null;
-  }
+    /**
+     * Releases the resources associated with this partial run.
+     *
+     * <p>This must be called once all steps have been executed, or to abandon the partial run. The
+     * partial run is not usable after {@code close} returns.
+     */
+    @Override
+    public void close() {
+      if (handle != 0) {
+        deletePartialRun(handle);
+        handle = 0;
+      }
+    }
 
-  /** Create a Runner to execute graph operations and evaluate Tensors. */
-  public Runner runner() {
-    return new Runner();
+    private PartialRun(long handle) {
+      this.handle = handle;
+    }
+
+    private long handle;
+    private final ArrayList<Output<?>> inputs = new ArrayList<Output<?>>();
+    private final ArrayList<Tensor<?>> inputTensors = new ArrayList<Tensor<?>>();
+    private final ArrayList<Output<?>> outputs = new ArrayList<Output<?>>();
+    private final ArrayList<GraphOperation> targets = new ArrayList<GraphOperation>();
   }
 
   /**
@@ -436,12 +1030,89 @@ public final class Session implements AutoCloseable {
     public byte[] metadata;
   }
 
+  /** Returns the number of executions of this session in progress. */
+  int numActiveRuns() {
+    synchronized (nativeHandleLock) {
+      return numActiveRuns;
+    }
+  }
+
+  private class Reference implements AutoCloseable {
+    public Reference() {
+      synchronized (nativeHandleLock) {
+        if (nativeHandle == 0) {
+          throw new IllegalStateException("run() cannot be called on the Session after close()");
+        }
+        ++numActiveRuns;
+      }
+    }
+
+    @Override
+    public void close() {
+      synchronized (nativeHandleLock) {
+        if (nativeHandle == 0) {
+          return;
+        }
+        if (--numActiveRuns == 0) {
+          nativeHandleLock.notifyAll();
+        }
+      }
+    }
+  }
+
+  private GraphOperation operationByName(String opName) {
+    GraphOperation op = graph.operation(opName);
+    if (op == null) {
+      throw new IllegalArgumentException("No Operation named [" + opName + "] in the Graph");
+    }
+    return op;
+  }
+
+  private Output<?> parseOutput(String opName) {
+    Output<?> output = outputsByName.get(opName);
+    if (output == null) {
+      output = resolveOutput(opName);
+      outputsByName.put(opName, output);
+    }
+    return output;
+  }
+
+  @SuppressWarnings("rawtypes")
+  private Output<?> resolveOutput(String opName) {
+    int colon = opName.lastIndexOf(':');
+    if (colon == -1 || colon == opName.length() - 1) {
+      return new Output(operationByName(opName), 0);
+    }
+    try {
+      String op = opName.substring(0, colon);
+      int index = Integer.parseInt(opName.substring(colon + 1));
+      return new Output(operationByName(op), index);
+    } catch (NumberFormatException e) {
+      return new Output(operationByName(opName), 0);
+    }
+  }
+
+  private static GraphOperation graphOperation(Operation operation) {
+    if (!(operation instanceof GraphOperation)) {
+      throw new IllegalArgumentException(
+          "Operation of type "
+              + operation.getClass().getName()
+              + " is not supported in graph sessions");
+    }
+    return (GraphOperation) operation;
+  }
+
   private final Graph graph;
   private final Graph.Reference graphRef;
+  // Outputs referred to by name in this session, see Graph#operation(String) for their validity
+  private final ConcurrentMap<String, Output<?>> outputsByName =
+      new ConcurrentHashMap<String, Output<?>>();
 
   private final Object nativeHandleLock = new Object();
   private long nativeHandle;
   private int numActiveRuns;
+  // Callables created by this session and not yet released, guarded by nativeHandleLock
+  private final Set<SessionCallable> callables = new HashSet<SessionCallable>();
 
   // TODO(ashankar): Remove after TensorFlow 1.2 has been released with allocate2().
   private static native long allocate(long graphHandle);
@@ -450,6 +1121,8 @@ public final class Session implements AutoCloseable {
 
   private static native void delete(long handle);
 
+  private static native void cancel(long handle);
+
   /**
    * Execute a session.
    *
@@ -488,4 +1161,54 @@ public final class Session implements AutoCloseable {
       long[] targetOpHandles,
       boolean wantRunMetadata,
       long[] outputTensorHandles);
+
+  /**
+   * Prepares a partial run of a session.
+   *
+   * @param handle to the C API TF_Session object (Session.nativeHandle)
+   * @param inputOpHandles operations of all values fed during the partial run
+   * @param inputOpIndices output indices of all values fed during the partial run
+   * @param outputOpHandles operations of all values fetched during the partial run
+   * @param outputOpIndices output indices of all values fetched during the partial run
+   * @param targetOpHandles all operations executed during the partial run
+   * @return handle to the partial run, to be released with {@link #deletePartialRun(long)}
+   */
+  private static native long partialRunSetup(
+      long handle,
+      long[] inputOpHandles,
+      int[] inputOpIndices,
+      long[] outputOpHandles,
+      int[] outputOpIndices,
+      long[] targetOpHandles);
+
+  /**
+   * Executes one step of a partial run.
+   *
+   * <p>Arguments are the same as for {@link #run}, where {@code partialRunHandle} has been
+   * returned by {@link #partialRunSetup}.
+   */
+  private static native void partialRun(
+      long handle,
+      long partialRunHandle,
+      long[] inputTensorHandles,
+      long[] inputOpHandles,
+      int[] inputOpIndices,
+      long[] outputOpHandles,
+      int[] outputOpIndices,
+      long[] targetOpHandles,
+      long[] outputTensorHandles);
+
+  private static native void deletePartialRun(long partialRunHandle);
+
+  private static native long listDevices(long handle);
+
+  private static native int deviceCount(long listHandle);
+
+  private static native String deviceName(long listHandle, int index);
+
+  private static native String deviceType(long listHandle, int index);
+
+  private static native long deviceMemoryBytes(long listHandle, int index);
+
+  private static native void deleteDeviceList(long listHandle);
 }
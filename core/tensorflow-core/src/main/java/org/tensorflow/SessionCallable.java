@@ -0,0 +1,113 @@
+/* Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+==============================================================================*/
+
+package org.tensorflow;
+
+import java.util.List;
+
+/**
+ * Executes a {@link Session} repeatedly with a fixed signature.
+ *
+ * <p>The operations to feed, fetch and execute are resolved once, when the callable is created by
+ * {@link Session#makeCallable(CallableOptions)}, instead of on every run like with a {@link
+ * Session.Runner}. For example:
+ *
+ * <pre>{@code
+ * try (SessionCallable predict =
+ *     session.makeCallable(CallableOptions.create().feed("x").fetch("y"))) {
+ *   for (Tensor<?> x : inputs) {
+ *     try (Tensor<?> y = predict.call(x).get(0)) {
+ *       ...
+ *     }
+ *   }
+ * }
+ * }</pre>
+ *
+ * <p>A callable is released by {@link #release()}, or when its session is closed. Instances of
+ * this class are thread-safe.
+ */
+public final class SessionCallable implements AutoCloseable {
+
+  /**
+   * Runs the session, feeding the given tensors and returning the fetched ones.
+   *
+   * <p><b>WARNING:</b> The caller assumes ownership of all returned {@link Tensor Tensors}.
+   *
+   * @param feeds values to feed, in the order of {@link CallableOptions#feeds()}
+   * @return values fetched, in the order of {@link CallableOptions#fetches()}
+   * @throws IllegalArgumentException if the number of feeds does not match the signature
+   * @throws IllegalStateException if this callable has been released
+   */
+  public List<Tensor<?>> call(Tensor<?>... feeds) {
+    if (feeds.length != inputOpHandles.length) {
+      throw new IllegalArgumentException(
+          "Expected " + inputOpHandles.length + " tensors to feed, got " + feeds.length);
+    }
+    long[] inputTensorHandles = new long[feeds.length];
+    for (int i = 0; i < feeds.length; ++i) {
+      inputTensorHandles[i] = feeds[i].getNativeHandle();
+    }
+    try {
+      return session.runCallable(this, inputTensorHandles);
+    } finally {
+      // Feeds may be temporaries, only referenced by this method while they are being run
+      for (Tensor<?> feed : feeds) {
+        feed.keepAlive();
+      }
+    }
+  }
+
+  /**
+   * Releases this callable.
+   *
+   * <p>Calls in progress are completed, but the callable cannot be called anymore once this
+   * method returns.
+   */
+  public void release() {
+    session.releaseCallable(this);
+  }
+
+  /** Same as {@link #release()}. */
+  @Override
+  public void close() {
+    release();
+  }
+
+  SessionCallable(
+      Session session,
+      byte[] runOptions,
+      long[] inputOpHandles,
+      int[] inputOpIndices,
+      long[] outputOpHandles,
+      int[] outputOpIndices,
+      long[] targetOpHandles) {
+    this.session = session;
+    this.runOptions = runOptions;
+    this.inputOpHandles = inputOpHandles;
+    this.inputOpIndices = inputOpIndices;
+    this.outputOpHandles = outputOpHandles;
+    this.outputOpIndices = outputOpIndices;
+    this.targetOpHandles = targetOpHandles;
+  }
+
+  final byte[] runOptions;
+  final long[] inputOpHandles;
+  final int[] inputOpIndices;
+  final long[] outputOpHandles;
+  final int[] outputOpIndices;
+  final long[] targetOpHandles;
+
+  private final Session session;
+}
@@ -0,0 +1,271 @@
+/* Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+==============================================================================*/
+
+package org.tensorflow;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Configuration of a session.
+ *
+ * <p>This is a typed builder of the <a
+ * href="https://www.tensorflow.org/code/tensorflow/core/protobuf/config.proto">ConfigProto
+ * protocol buffer</a>, for the options that most affect performance. For example:
+ *
+ * <pre>{@code
+ * SessionConfig config = SessionConfig.create()
+ *     .intraOpParallelismThreads(8)
+ *     .interOpParallelismThreads(2)
+ *     .globalJitLevel(SessionConfig.GlobalJitLevel.ON_1);
+ * try (Session s = new Session(graph, config)) {
+ *   ...
+ * }
+ * }</pre>
+ *
+ * <p>The same configuration can be passed to {@link EagerSession.Options#config(SessionConfig)} or
+ * {@link SavedModelBundle.Loader#withConfigProto(SessionConfig)}. Options that are not set keep
+ * the default value chosen by TensorFlow.
+ */
+public final class SessionConfig {
+
+  /** Level of the optimizations applied to the graph. */
+  public enum OptimizerLevel {
+    /** Default optimizations, including common subexpression elimination and constant folding. */
+    L1(0),
+    /** No optimizations. */
+    L0(-1);
+
+    private OptimizerLevel(int value) {
+      this.value = value;
+    }
+
+    private final int value;
+  }
+
+  /** Level of just-in-time compilation of the graph with XLA. */
+  public enum GlobalJitLevel {
+    /** Default level, chosen by TensorFlow (currently {@link #OFF}). */
+    DEFAULT(0),
+    /** No compilation. */
+    OFF(-1),
+    /** Compilation of the operations that benefit the most from it. */
+    ON_1(1),
+    /** More aggressive compilation. */
+    ON_2(2);
+
+    private GlobalJitLevel(int value) {
+      this.value = value;
+    }
+
+    private final int value;
+  }
+
+  /** Creates an empty configuration. */
+  public static SessionConfig create() {
+    return new SessionConfig();
+  }
+
+  /**
+   * Sets the maximum number of devices of a given type used by the session.
+   *
+   * <p>For CPU devices, this sets the number of devices the session creates, which all share the
+   * same cores: a large graph can then be partitioned between them, with {@link
+   * org.tensorflow.op.Scope#withDevice(String)}, so its parts are executed independently. For
+   * other types, the session uses at most this number of the devices found on the host.
+   *
+   * @param deviceType type of the device, e.g. {@code CPU} or {@code GPU}
+   * @param count maximum number of devices of this type
+   * @see Session#listDevices()
+   */
+  public SessionConfig deviceCount(String deviceType, int count) {
+    if (count < 0) {
+      throw new IllegalArgumentException("Number of devices cannot be negative, got " + count);
+    }
+    deviceCount.put(deviceType, count);
+    return this;
+  }
+
+  /**
+   * Sets the number of threads used to parallelize the execution of an operation.
+   *
+   * <p>0 lets TensorFlow choose an appropriate number, which is the default.
+   */
+  public SessionConfig intraOpParallelismThreads(int value) {
+    intraOpParallelismThreads = checkThreads(value);
+    return this;
+  }
+
+  /**
+   * Sets the number of threads used to execute independent operations concurrently.
+   *
+   * <p>0 lets TensorFlow choose an appropriate number, which is the default.
+   */
+  public SessionConfig interOpParallelismThreads(int value) {
+    interOpParallelismThreads = checkThreads(value);
+    return this;
+  }
+
+  /**
+   * Gives the session its own inter-op thread pool, instead of the one shared by all sessions of
+   * the process. False by default.
+   */
+  public SessionConfig usePerSessionThreads(boolean value) {
+    usePerSessionThreads = value;
+    return this;
+  }
+
+  /**
+   * Adds an inter-op thread pool to the session, selected by {@link
+   * RunOptions#interOpThreadPool(int)} in the order they are added.
+   *
+   * <p>When thread pools are added, {@link #interOpParallelismThreads(int)} and {@link
+   * #usePerSessionThreads(boolean)} are ignored.
+   *
+   * @param numThreads number of threads of the pool, or 0 to let TensorFlow choose
+   */
+  public SessionConfig addSessionInterOpThreadPool(int numThreads) {
+    return addSessionInterOpThreadPool(numThreads, null);
+  }
+
+  /**
+   * Adds an inter-op thread pool to the session, which is shared with all sessions of the process
+   * adding a pool of the same name.
+   *
+   * @param numThreads number of threads of the pool, or 0 to let TensorFlow choose
+   * @param globalName name of the pool, or null if the pool is owned by the session
+   * @see #addSessionInterOpThreadPool(int)
+   */
+  public SessionConfig addSessionInterOpThreadPool(int numThreads, String globalName) {
+    ProtoWire.Writer pool = new ProtoWire.Writer();
+    if (checkThreads(numThreads) != 0) {
+      pool.writeVarint(1, numThreads);
+    }
+    if (globalName != null) {
+      pool.writeString(2, globalName);
+    }
+    sessionInterOpThreadPools.add(pool.toByteArray());
+    return this;
+  }
+
+  /**
+   * Lets operations run on another device when they cannot run on the device they are placed on.
+   * False by default.
+   */
+  public SessionConfig allowSoftPlacement(boolean value) {
+    allowSoftPlacement = value;
+    return this;
+  }
+
+  /**
+   * Sets the time allowed for blocking operations (e.g. dequeuing from a queue) to complete, in
+   * milliseconds.
+   *
+   * <p>0, the default, means no timeout.
+   */
+  public SessionConfig operationTimeoutInMs(long value) {
+    operationTimeoutInMs = value;
+    return this;
+  }
+
+  /** Sets the level of optimizations applied to the graph, {@link OptimizerLevel#L1} by default. */
+  public SessionConfig optimizerLevel(OptimizerLevel value) {
+    optimizerLevel = value;
+    return this;
+  }
+
+  /** Enables function inlining in the graph. False by default. */
+  public SessionConfig doFunctionInlining(boolean value) {
+    doFunctionInlining = value;
+    return this;
+  }
+
+  /**
+   * Sets the level of just-in-time compilation of the graph with XLA, {@link
+   * GlobalJitLevel#DEFAULT} by default.
+   *
+   * <p>Compilation only occurs if the TensorFlow runtime has been built with XLA support.
+   */
+  public SessionConfig globalJitLevel(GlobalJitLevel value) {
+    globalJitLevel = value;
+    return this;
+  }
+
+  /** Returns the serialized ConfigProto protocol buffer. */
+  public byte[] toByteArray() {
+    ProtoWire.Writer config = new ProtoWire.Writer();
+    for (Map.Entry<String, Integer> entry : deviceCount.entrySet()) {
+      ProtoWire.Writer deviceCountEntry =
+          new ProtoWire.Writer().writeString(1, entry.getKey()).writeVarint(2, entry.getValue());
+      config.writeBytes(1, deviceCountEntry.toByteArray());
+    }
+    if (intraOpParallelismThreads != 0) {
+      config.writeVarint(2, intraOpParallelismThreads);
+    }
+    if (interOpParallelismThreads != 0) {
+      config.writeVarint(5, interOpParallelismThreads);
+    }
+    if (allowSoftPlacement) {
+      config.writeBool(7, true);
+    }
+    if (usePerSessionThreads) {
+      config.writeBool(9, true);
+    }
+    ProtoWire.Writer optimizerOptions = new ProtoWire.Writer();
+    if (optimizerLevel != OptimizerLevel.L1) {
+      optimizerOptions.writeVarint(3, optimizerLevel.value);
+    }
+    if (doFunctionInlining) {
+      optimizerOptions.writeBool(4, true);
+    }
+    if (globalJitLevel != GlobalJitLevel.DEFAULT) {
+      optimizerOptions.writeVarint(5, globalJitLevel.value);
+    }
+    byte[] optimizerOptionsBytes = optimizerOptions.toByteArray();
+    if (optimizerOptionsBytes.length > 0) {
+      ProtoWire.Writer graphOptions = new ProtoWire.Writer().writeBytes(3, optimizerOptionsBytes);
+      config.writeBytes(10, graphOptions.toByteArray());
+    }
+    if (operationTimeoutInMs != 0) {
+      config.writeVarint(11, operationTimeoutInMs);
+    }
+    for (byte[] pool : sessionInterOpThreadPools) {
+      config.writeBytes(12, pool);
+    }
+    return config.toByteArray();
+  }
+
+  private final Map<String, Integer> deviceCount = new LinkedHashMap<String, Integer>();
+  private int intraOpParallelismThreads = 0;
+  private int interOpParallelismThreads = 0;
+  private boolean usePerSessionThreads = false;
+  private final List<byte[]> sessionInterOpThreadPools = new ArrayList<byte[]>();
+  private boolean allowSoftPlacement = false;
+  private long operationTimeoutInMs = 0;
+  private OptimizerLevel optimizerLevel = OptimizerLevel.L1;
+  private boolean doFunctionInlining = false;
+  private GlobalJitLevel globalJitLevel = GlobalJitLevel.DEFAULT;
+
+  private SessionConfig() {}
+
+  private static int checkThreads(int value) {
+    if (value < 0) {
+      throw new IllegalArgumentException("Number of threads cannot be negative, got " + value);
+    }
+    return value;
+  }
+}
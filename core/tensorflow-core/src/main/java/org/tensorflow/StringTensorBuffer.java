@@ -0,0 +1,201 @@
+/* Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+==============================================================================*/
+
+package org.tensorflow;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+
+/**
+ * A read-only view over the elements of a {@link DataType#STRING STRING} tensor.
+ *
+ * <p>Elements are decoded lazily, directly from the memory of the tensor, only when they are
+ * accessed. This avoids the allocation of one {@code byte[]} per element that {@link
+ * Tensor#copyTo(Object)} requires, which matters when reading large batches of short strings.
+ * Elements are indexed in their flattened (1-D) order.
+ *
+ * <p>A view keeps its tensor reachable, so the tensor is not released while the view is in use,
+ * but it is only valid as long as the tensor is not closed. For example:
+ *
+ * <pre>{@code
+ * try (Tensor<String> t = Tensor.create(new long[] {2}, data, offsets)) {
+ *   StringTensorBuffer strings = t.stringBuffer();
+ *   System.out.println(strings.getString(1, StandardCharsets.UTF_8));
+ * }
+ * }</pre>
+ */
+public final class StringTensorBuffer {
+
+  /** Returns the number of strings in this buffer. */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns the length in bytes of a string.
+   *
+   * @param index index of the string
+   * @throws IndexOutOfBoundsException if {@code index} is not smaller than {@link #size()}
+   */
+  public int length(int index) {
+    try {
+      return (int) readLength(dataPosition(index));
+    } finally {
+      tensor.keepAlive();
+    }
+  }
+
+  /**
+   * Returns the sum of the lengths of all strings in this buffer, in bytes.
+   *
+   * <p>This is the size of the array required by {@link #read(byte[], int[])}.
+   */
+  public long totalLength() {
+    long total = 0;
+    for (int i = 0; i < size; ++i) {
+      total += length(i);
+    }
+    return total;
+  }
+
+  /**
+   * Returns a copy of the bytes of a string.
+   *
+   * @param index index of the string
+   * @throws IndexOutOfBoundsException if {@code index} is not smaller than {@link #size()}
+   */
+  public byte[] get(int index) {
+    byte[] dst = new byte[length(index)];
+    get(index, dst, 0);
+    return dst;
+  }
+
+  /**
+   * Copies the bytes of a string into an array.
+   *
+   * @param index index of the string
+   * @param dst destination array
+   * @param offset position in {@code dst} where to copy the first byte
+   * @return the number of bytes copied, i.e. the length of the string
+   * @throws IndexOutOfBoundsException if {@code index} is not smaller than {@link #size()} or if
+   *     {@code dst} is too small to receive the string
+   */
+  public int get(int index, byte[] dst, int offset) {
+    try {
+      int position = dataPosition(index);
+      int length = (int) readLength(position);
+      ByteBuffer src = data.duplicate();
+      src.position(position + varintSize(length));
+      src.get(dst, offset, length);
+      return length;
+    } finally {
+      tensor.keepAlive();
+    }
+  }
+
+  /**
+   * Returns a string decoded with the given charset.
+   *
+   * @param index index of the string
+   * @param charset charset used to decode the bytes of the string
+   * @throws IndexOutOfBoundsException if {@code index} is not smaller than {@link #size()}
+   */
+  public String getString(int index, Charset charset) {
+    return new String(get(index), charset);
+  }
+
+  /**
+   * Copies all strings, concatenated, into a single array.
+   *
+   * <p>On return, string {@code i} is found in {@code data} in the range {@code [offsets[i],
+   * offsets[i + 1])}. This is the same layout accepted by {@link Tensor#create(long[], byte[],
+   * int[])}.
+   *
+   * @param data destination array, must be at least {@link #totalLength()} long
+   * @param offsets destination for the offsets, must be at least {@code size() + 1} long
+   * @return the number of bytes copied into {@code data}
+   * @throws IndexOutOfBoundsException if {@code data} or {@code offsets} are too small
+   */
+  public int read(byte[] data, int[] offsets) {
+    if (offsets.length <= size) {
+      throw new IndexOutOfBoundsException(
+          "offsets must have at least " + (size + 1) + " entries, got " + offsets.length);
+    }
+    int position = 0;
+    for (int i = 0; i < size; ++i) {
+      offsets[i] = position;
+      position += get(i, data, position);
+    }
+    offsets[size] = position;
+    return position;
+  }
+
+  StringTensorBuffer(Tensor<?> tensor, ByteBuffer buffer, int size) {
+    this.tensor = tensor;
+    // TF_STRING tensors are encoded with a table of 8-byte offsets followed by strings, each of
+    // them being prefixed by their length as a varint64 (see TF_StringEncode).
+    ByteBuffer offsets = buffer.duplicate().order(ByteOrder.nativeOrder());
+    offsets.limit(size * 8);
+    this.offsets = offsets.slice().order(ByteOrder.nativeOrder());
+    ByteBuffer data = buffer.duplicate();
+    data.position(size * 8);
+    this.data = data.slice();
+    this.size = size;
+  }
+
+  // The tensor owning the memory of this buffer, which must remain reachable while it is read
+  private final Tensor<?> tensor;
+  private final ByteBuffer offsets;
+  private final ByteBuffer data;
+  private final int size;
+
+  private int dataPosition(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException(
+          "Index " + index + " is out of bounds for a buffer of " + size + " strings");
+    }
+    long position = offsets.getLong(index * 8);
+    if (position < 0 || position >= data.limit()) {
+      throw new IllegalStateException("Invalid TF_STRING tensor, invalid entry in offset table");
+    }
+    return (int) position;
+  }
+
+  private long readLength(int position) {
+    long value = 0;
+    try {
+      for (int shift = 0; shift < 64; shift += 7) {
+        byte b = data.get(position++);
+        value |= (long) (b & 0x7F) << shift;
+        if (b >= 0) {
+          return value;
+        }
+      }
+    } catch (IndexOutOfBoundsException e) {
+      throw new BufferUnderflowException();
+    }
+    throw new IllegalStateException("Invalid TF_STRING tensor, malformed string length");
+  }
+
+  private static int varintSize(long value) {
+    int size = 1;
+    while ((value >>>= 7) != 0) {
+      ++size;
+    }
+    return size;
+  }
+}
@@ -24,8 +24,13 @@ import java.nio.DoubleBuffer;
 import java.nio.FloatBuffer;
 import java.nio.IntBuffer;
 import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
+
+import org.tensorflow.types.Int16;
 
 /**
  * A statically typed multi-dimensional array whose elements are of a type described by T.
@@ -41,6 +46,12 @@ import java.util.HashMap;
  *   doSomethingWith(t);
  * }
  * }</pre>
+ *
+ * <p>As a safety net, the native memory of a tensor that is garbage collected without being closed
+ * is released in background, but only at a time chosen by the garbage collector, which is not aware
+ * of that memory. Such tensors are counted by {@link TensorMemory#reclaimedTensors()}. This safety
+ * net can be disabled by setting the {@code org.tensorflow.Tensor.STRICT_OWNERSHIP} system
+ * property, in which case unclosed tensors leak.
  */
 public final class Tensor<T> implements AutoCloseable {
 
@@ -144,13 +155,18 @@ public final class Tensor<T> implements AutoCloseable {
     if (t.dtype != DataType.STRING) {
       int byteSize = elemByteSize(t.dtype) * numElements(t.shapeCopy);
       nativeHandle = allocate(t.dtype.c(), t.shapeCopy, byteSize);
-      setValue(nativeHandle, obj);
+      try {
+        setValue(nativeHandle, obj);
+      } catch (RuntimeException e) {
+        delete(nativeHandle);
+        throw e;
+      }
     } else if (t.shapeCopy.length != 0) {
       nativeHandle = allocateNonScalarBytes(t.shapeCopy, (Object[]) obj);
     } else {
       nativeHandle = allocateScalarBytes((byte[]) obj);
     }
-    t.nativeRef = new NativeReference(nativeHandle);
+    t.nativeRef = new NativeReference(t, nativeHandle);
     return t;
   }
 
@@ -226,6 +242,71 @@ public final class Tensor<T> implements AutoCloseable {
     return t;
   }
 
+  /**
+   * Create an {@link Int16} Tensor with data from the given buffer.
+   *
+   * <p>Creates a Tensor with the given shape by copying elements from the buffer (starting from its
+   * current position) into the tensor. For example, if {@code shape = {2,3} } (which represents a
+   * 2x3 matrix) then the buffer must have 6 elements remaining, which will be consumed by this
+   * method.
+   *
+   * @param shape the tensor shape.
+   * @param data a buffer containing the tensor data.
+   * @throws IllegalArgumentException If the tensor shape is not compatible with the buffer
+   */
+  public static Tensor<Int16> create(long[] shape, ShortBuffer data) {
+    Tensor<Int16> t = allocateForBuffer(DataType.INT16, shape, data.remaining());
+    t.buffer().asShortBuffer().put(data);
+    return t;
+  }
+
+  /**
+   * Create a {@link String} Tensor from strings concatenated in a single array.
+   *
+   * <p>Element {@code i} of the tensor, in its flattened (1-D) order, is made of the bytes of
+   * {@code data} in the range {@code [offsets[i], offsets[i + 1])}. Building a tensor this way
+   * does not require to allocate one {@code byte[]} per element, unlike {@link #create(Object,
+   * Class)}. For example:
+   *
+   * <pre>{@code
+   * byte[] data = "thisisamatrix".getBytes("UTF-8");
+   * int[] offsets = {0, 4, 6, 7, 13};
+   * Tensor<String> m = Tensor.create(new long[] {2, 2}, data, offsets);
+   * }</pre>
+   *
+   * <p>Strings can be read back the same way, using {@link StringTensorBuffer#read(byte[],
+   * int[])}.
+   *
+   * @param shape the tensor shape.
+   * @param data the bytes of all strings, concatenated.
+   * @param offsets the boundaries of each string in {@code data}, one more than the number of
+   *     elements in the tensor.
+   * @throws IllegalArgumentException If the offsets are not compatible with the tensor shape or
+   *     with the data
+   */
+  public static Tensor<String> create(long[] shape, byte[] data, int[] offsets) {
+    int nelements = numElements(shape);
+    if (offsets.length != nelements + 1) {
+      throw new IllegalArgumentException(
+          String.format(
+              "%d offsets are not compatible with a Tensor with shape %s, %d are expected",
+              offsets.length, Arrays.toString(shape), nelements + 1));
+    }
+    for (int i = 0; i < nelements; ++i) {
+      if (offsets[i] < 0 || offsets[i] > offsets[i + 1] || offsets[i + 1] > data.length) {
+        throw new IllegalArgumentException(
+            String.format(
+                "invalid range [%d, %d) for string %d in an array of %d bytes",
+                offsets[i], offsets[i + 1], i, data.length));
+      }
+    }
+    Tensor<String> t = new Tensor<>(DataType.STRING);
+    t.shapeCopy = Arrays.copyOf(shape, shape.length);
+    long nativeHandle = allocateStrings(t.shapeCopy, data, offsets);
+    t.nativeRef = new NativeReference(t, nativeHandle);
+    return t;
+  }
+
   /**
    * Create a Tensor of any type with data from the given buffer.
    *
@@ -284,6 +365,100 @@ public final class Tensor<T> implements AutoCloseable {
     return ((Tensor<U>) this);
   }
 
+  /**
+   * Creates tensors with data copied from the given buffers, allocating all of them in a single
+   * native call.
+   *
+   * <p>Each buffer is consumed from its current position, like in {@link #create(long[],
+   * IntBuffer)}. A {@link ByteBuffer} can provide data for a tensor of any type, in which case its
+   * bytes must be in native order.
+   *
+   * @see Tensors#batchCreate()
+   */
+  static List<Tensor<?>> createBatch(
+      List<DataType> dataTypes, List<long[]> shapes, List<Buffer> buffers) {
+    final int count = dataTypes.size();
+    int[] dtypes = new int[count];
+    int[] ranks = new int[count];
+    long[] byteSizes = new long[count];
+    int totalDims = 0;
+    long totalBytes = 0;
+    for (int i = 0; i < count; ++i) {
+      DataType dataType = dataTypes.get(i);
+      if (dataType == DataType.STRING) {
+        throw new IllegalArgumentException("STRING tensors cannot be created in a batch");
+      }
+      long[] shape = shapes.get(i);
+      Buffer buffer = buffers.get(i);
+      int nelements = numElements(shape);
+      int elemBytes = elemByteSize(dataType);
+      int nbuffered = buffer.remaining();
+      if (buffer instanceof ByteBuffer) {
+        if (nbuffered % elemBytes != 0) {
+          throw new IllegalArgumentException(
+              String.format(
+                  "ByteBuffer with %d bytes is not compatible with a %s Tensor (%d bytes/element)",
+                  nbuffered, dataType.toString(), elemBytes));
+        }
+        nbuffered /= elemBytes;
+      }
+      if (nbuffered != nelements) {
+        throw incompatibleBuffer(nbuffered, shape);
+      }
+      dtypes[i] = dataType.c();
+      ranks[i] = shape.length;
+      byteSizes[i] = (long) nelements * elemBytes;
+      totalDims += shape.length;
+      totalBytes += byteSizes[i];
+    }
+    if (totalBytes > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException(
+          "Tensors of " + totalBytes + " bytes are too large to be created in a single batch");
+    }
+    // Pack all dimensions and all data, so they are passed to the native layer at once
+    long[] dims = new long[totalDims];
+    byte[] data = new byte[(int) totalBytes];
+    int dimOffset = 0;
+    int dataOffset = 0;
+    for (int i = 0; i < count; ++i) {
+      long[] shape = shapes.get(i);
+      System.arraycopy(shape, 0, dims, dimOffset, shape.length);
+      dimOffset += shape.length;
+      ByteBuffer dst = ByteBuffer.wrap(data, dataOffset, (int) byteSizes[i]).slice();
+      dst.order(ByteOrder.nativeOrder());
+      Buffer src = buffers.get(i);
+      if (src instanceof ByteBuffer) {
+        dst.put((ByteBuffer) src);
+      } else if (src instanceof FloatBuffer) {
+        dst.asFloatBuffer().put((FloatBuffer) src);
+      } else if (src instanceof DoubleBuffer) {
+        dst.asDoubleBuffer().put((DoubleBuffer) src);
+      } else if (src instanceof IntBuffer) {
+        dst.asIntBuffer().put((IntBuffer) src);
+      } else if (src instanceof LongBuffer) {
+        dst.asLongBuffer().put((LongBuffer) src);
+      } else if (src instanceof ShortBuffer) {
+        dst.asShortBuffer().put((ShortBuffer) src);
+      } else {
+        throw incompatibleBuffer(src, dataTypes.get(i));
+      }
+      src.position(src.limit()); // views do not move the position of their source
+      dataOffset += byteSizes[i];
+    }
+    long[] handles = new long[count];
+    allocateBatch(dtypes, ranks, dims, data, byteSizes, handles);
+
+    List<Tensor<?>> tensors = new ArrayList<Tensor<?>>(count);
+    for (int i = 0; i < count; ++i) {
+      @SuppressWarnings("rawtypes")
+      Tensor<?> t = new Tensor(dataTypes.get(i));
+      t.shapeCopy = Arrays.copyOf(shapes.get(i), ranks[i]);
+      t.nativeRef = new NativeReference(t, handles[i], byteSizes[i]);
+      tensors.add(t);
+    }
+    return tensors;
+  }
+
   // Helper function to allocate a Tensor for the create() methods that create a Tensor from
   // a java.nio.Buffer.
   // Requires: dataType matches T
@@ -302,7 +477,7 @@ public final class Tensor<T> implements AutoCloseable {
     Tensor<T> t = new Tensor<T>(dataType);
     t.shapeCopy = Arrays.copyOf(shape, shape.length);
     long nativeHandle = allocate(t.dtype.c(), t.shapeCopy, nbytes);
-    t.nativeRef = new NativeReference(nativeHandle);
+    t.nativeRef = new NativeReference(t, nativeHandle, nbytes);
     return t;
   }
 
@@ -313,9 +488,15 @@ public final class Tensor<T> implements AutoCloseable {
    * operation or memory will be leaked.
    *
    * <p>The Tensor object is no longer usable after {@code close} returns.
+   *
+   * <p>Closing a tensor obtained from a {@link ScalarTensorCache} has no effect, as it is shared
+   * with other users of the cache.
    */
   @Override
   public void close() {
+    if (shared) {
+      return;
+    }
     nativeRef.release();
   }
 
@@ -336,7 +517,7 @@ public final class Tensor<T> implements AutoCloseable {
 
   /** Returns the size, in bytes, of the tensor data. */
   public int numBytes() {
-    return buffer().remaining();
+    return (int) nativeRef.numBytes;
   }
 
   /** Returns the number of elements in a flattened (1-D) view of the tensor. */
@@ -360,7 +541,11 @@ public final class Tensor<T> implements AutoCloseable {
    * @throws IllegalArgumentException if the Tensor does not represent a float scalar.
    */
   public float floatValue() {
-    return scalarFloat(getNativeHandle());
+    try {
+      return scalarFloat(getNativeHandle());
+    } finally {
+      keepAlive();
+    }
   }
 
   /**
@@ -369,7 +554,24 @@ public final class Tensor<T> implements AutoCloseable {
    * @throws IllegalArgumentException if the Tensor does not represent a double scalar.
    */
   public double doubleValue() {
-    return scalarDouble(getNativeHandle());
+    try {
+      return scalarDouble(getNativeHandle());
+    } finally {
+      keepAlive();
+    }
+  }
+
+  /**
+   * Returns the value in a scalar {@link Int16} tensor.
+   *
+   * @throws IllegalArgumentException if the Tensor does not represent a short scalar.
+   */
+  public short shortValue() {
+    try {
+      return scalarShort(getNativeHandle());
+    } finally {
+      keepAlive();
+    }
   }
 
   /**
@@ -378,7 +580,11 @@ public final class Tensor<T> implements AutoCloseable {
    * @throws IllegalArgumentException if the Tensor does not represent a int scalar.
    */
   public int intValue() {
-    return scalarInt(getNativeHandle());
+    try {
+      return scalarInt(getNativeHandle());
+    } finally {
+      keepAlive();
+    }
   }
 
   /**
@@ -387,7 +593,11 @@ public final class Tensor<T> implements AutoCloseable {
    * @throws IllegalArgumentException if the Tensor does not represent a long scalar.
    */
   public long longValue() {
-    return scalarLong(getNativeHandle());
+    try {
+      return scalarLong(getNativeHandle());
+    } finally {
+      keepAlive();
+    }
   }
 
   /**
@@ -396,7 +606,11 @@ public final class Tensor<T> implements AutoCloseable {
    * @throws IllegalArgumentException if the Tensor does not represent a boolean scalar.
    */
   public boolean booleanValue() {
-    return scalarBoolean(getNativeHandle());
+    try {
+      return scalarBoolean(getNativeHandle());
+    } finally {
+      keepAlive();
+    }
   }
 
   /**
@@ -405,7 +619,27 @@ public final class Tensor<T> implements AutoCloseable {
    * @throws IllegalArgumentException if the Tensor does not represent a boolean scalar.
    */
   public byte[] bytesValue() {
-    return scalarBytes(getNativeHandle());
+    try {
+      return scalarBytes(getNativeHandle());
+    } finally {
+      keepAlive();
+    }
+  }
+
+  /**
+   * Returns a view over the elements of a {@link String} tensor, decoded lazily.
+   *
+   * <p>The returned view reads directly from the memory of this tensor and is no longer valid once
+   * the tensor is closed.
+   *
+   * @throws IllegalArgumentException if the tensor datatype is not {@link String}
+   */
+  public StringTensorBuffer stringBuffer() {
+    if (dtype != DataType.STRING) {
+      throw new IllegalArgumentException(
+          String.format("cannot read strings from a Tensor of type %s", dtype));
+    }
+    return new StringTensorBuffer(this, buffer(), numElements());
   }
 
   /**
@@ -413,7 +647,8 @@ public final class Tensor<T> implements AutoCloseable {
    *
    * <p>For non-scalar tensors, this method copies the contents of the underlying tensor to a Java
    * array. For scalar tensors, use one of {@link #bytesValue()}, {@link #floatValue()}, {@link
-   * #doubleValue()}, {@link #intValue()}, {@link #longValue()} or {@link #booleanValue()} instead.
+   * #doubleValue()}, {@link #shortValue()}, {@link #intValue()}, {@link #longValue()} or {@link
+   * #booleanValue()} instead.
    * The type and shape of {@code dst} must be compatible with the tensor. For example:
    *
    * <pre>{@code
@@ -434,7 +669,11 @@ public final class Tensor<T> implements AutoCloseable {
    */
   public <U> U copyTo(U dst) {
     throwExceptionIfTypeIsIncompatible(dst);
-    readNDArray(getNativeHandle(), dst);
+    try {
+      readNDArray(getNativeHandle(), dst);
+    } finally {
+      keepAlive();
+    }
     return dst;
   }
 
@@ -453,7 +692,11 @@ public final class Tensor<T> implements AutoCloseable {
       throw incompatibleBuffer(dst, dtype);
     }
     ByteBuffer src = buffer();
-    dst.put(src.asIntBuffer());
+    try {
+      dst.put(src.asIntBuffer());
+    } finally {
+      keepAlive();
+    }
   }
 
   /**
@@ -471,7 +714,11 @@ public final class Tensor<T> implements AutoCloseable {
       throw incompatibleBuffer(dst, dtype);
     }
     ByteBuffer src = buffer();
-    dst.put(src.asFloatBuffer());
+    try {
+      dst.put(src.asFloatBuffer());
+    } finally {
+      keepAlive();
+    }
   }
 
   /**
@@ -489,7 +736,11 @@ public final class Tensor<T> implements AutoCloseable {
       throw incompatibleBuffer(dst, dtype);
     }
     ByteBuffer src = buffer();
-    dst.put(src.asDoubleBuffer());
+    try {
+      dst.put(src.asDoubleBuffer());
+    } finally {
+      keepAlive();
+    }
   }
 
   /**
@@ -507,7 +758,35 @@ public final class Tensor<T> implements AutoCloseable {
       throw incompatibleBuffer(dst, dtype);
     }
     ByteBuffer src = buffer();
-    dst.put(src.asLongBuffer());
+    try {
+      dst.put(src.asLongBuffer());
+    } finally {
+      keepAlive();
+    }
+  }
+
+  /**
+   * Write the data of a {@link Int16} or {@link org.tensorflow.types.UInt16} tensor into the given
+   * buffer.
+   *
+   * <p>Copies {@code numElements()} elements to the buffer.
+   *
+   * @param dst the destination buffer
+   * @throws BufferOverflowException If there is insufficient space in the given buffer for the data
+   *     in this tensor
+   * @throws IllegalArgumentException If the tensor datatype is not {@link Int16} or {@link
+   *     org.tensorflow.types.UInt16}
+   */
+  public void writeTo(ShortBuffer dst) {
+    if (dtype != DataType.INT16 && dtype != DataType.UINT16) {
+      throw incompatibleBuffer(dst, dtype);
+    }
+    ByteBuffer src = buffer();
+    try {
+      dst.put(src.asShortBuffer());
+    } finally {
+      keepAlive();
+    }
   }
 
   /**
@@ -521,7 +800,11 @@ public final class Tensor<T> implements AutoCloseable {
    */
   public void writeTo(ByteBuffer dst) {
     ByteBuffer src = buffer();
-    dst.put(src);
+    try {
+      dst.put(src);
+    } finally {
+      keepAlive();
+    }
   }
 
   /** Returns a string describing the type and shape of the Tensor. */
@@ -536,10 +819,12 @@ public final class Tensor<T> implements AutoCloseable {
    * <p>Takes ownership of the handle.
    */
   static Tensor<?> fromHandle(long handle) {
+    // Retrieve the type, the size and the shape of the tensor in a single call
+    long[] description = describe(handle);
     @SuppressWarnings("rawtypes")
-    Tensor<?> t = new Tensor(DataType.fromC(dtype(handle)));
-    t.shapeCopy = shape(handle);
-    t.nativeRef = new NativeReference(handle);
+    Tensor<?> t = new Tensor(DataType.fromC((int) description[0]));
+    t.shapeCopy = Arrays.copyOfRange(description, 2, description.length);
+    t.nativeRef = new NativeReference(t, handle, description[1]);
     return t;
   }
 
@@ -558,16 +843,76 @@ public final class Tensor<T> implements AutoCloseable {
     return nativeRef.tensorHandle;
   }
 
+  /**
+   * Replaces the native tensor of this tensor by another one, of the same type and shape.
+   *
+   * <p>The previous native tensor is deleted and this tensor takes the ownership of the new one.
+   *
+   * @throws IllegalStateException if this tensor has been closed, in which case the new native
+   *     tensor is deleted
+   */
+  void replaceNativeHandle(long handle) {
+    nativeRef.replace(handle);
+    buffer = null;
+  }
+
+  /**
+   * Keeps this tensor strongly reachable up to this point of the calling method.
+   *
+   * <p>A tensor that is not closed is released by the {@link TensorCleaner} as soon as it becomes
+   * unreachable, which may happen while its memory is still accessed through a handle or a buffer
+   * obtained from it. Calling this method once that access is over prevents it. This is the
+   * equivalent of {@code Reference.reachabilityFence(this)}, not available in Java 7: a lock on an
+   * object that escapes cannot be elided.
+   */
+  void keepAlive() {
+    synchronized (this) {
+      // nothing to do, the tensor is reachable at least until here
+    }
+  }
+
+  /**
+   * Gives up the ownership of the C TF_Tensor object, which is no longer deleted when this tensor
+   * is closed or garbage collected.
+   *
+   * @return the handle of the TF_Tensor, to be owned by another object (see {@link
+   *     #fromHandle(long)})
+   */
+  long detachNativeHandle() {
+    return nativeRef.detach();
+  }
+
   private NativeReference nativeRef = null;
   private final DataType dtype;
   private long[] shapeCopy = null;
+  private ByteBuffer buffer = null;
+  private boolean shared = false;
 
   private Tensor(DataType t) {
     dtype = t;
   }
 
+  /**
+   * Marks this tensor as shared between multiple owners, which prevents it from being closed or
+   * modified.
+   */
+  Tensor<T> share() {
+    shared = true;
+    return this;
+  }
+
+  /** Returns true if this tensor is shared and cannot be closed or modified. */
+  boolean isShared() {
+    return shared;
+  }
+
   private ByteBuffer buffer() {
-    return buffer(getNativeHandle()).order(ByteOrder.nativeOrder());
+    // The direct buffer mapping the tensor memory is created once, but a released tensor is always
+    // handed to the native layer so it can report its invalid state
+    if (buffer == null || getNativeHandle() == 0L) {
+      buffer = buffer(getNativeHandle());
+    }
+    return buffer.duplicate().order(ByteOrder.nativeOrder());
   }
 
   private static IllegalArgumentException incompatibleBuffer(Buffer buf, DataType dataType) {
@@ -620,8 +965,11 @@ public final class Tensor<T> implements AutoCloseable {
    * reference to the tensor exists, it will take care of releasing the tensor at the end of its
    * life. If the tensor is being explicitly closed before this happens, it will take cake of
    * clearing its association with any eager session before cleaning up the resources.
+   *
+   * <p>Tensors that are not attached to an eager session are monitored by the {@link
+   * TensorCleaner} instead, unless strict ownership has been requested.
    */
-  private static class NativeReference {
+  private static class NativeReference extends TensorCleaner.Reference {
 
     /** Attaches this reference to an eager session */
     private class EagerReference extends EagerSession.NativeReference {
@@ -638,8 +986,22 @@ public final class Tensor<T> implements AutoCloseable {
       }
     }
 
-    NativeReference(long tensorHandle) {
+    NativeReference(Tensor<?> tensor, long tensorHandle) {
+      // The size of STRING tensors depends on their content, ask for the size of their buffer
+      this(
+          tensor,
+          tensorHandle,
+          tensor.dtype != DataType.STRING
+              ? (long) numElements(tensor.shapeCopy) * elemByteSize(tensor.dtype)
+              : buffer(tensorHandle).capacity());
+    }
+
+    NativeReference(Tensor<?> tensor, long tensorHandle, long numBytes) {
+      super(tensor);
       this.tensorHandle = tensorHandle;
+      this.dtype = tensor.dtype;
+      this.numBytes = numBytes;
+      TensorMemory.allocated(this, dtype, numBytes);
     }
 
     void eager(EagerSession session, Tensor<?> tensor) {
@@ -647,6 +1009,36 @@ public final class Tensor<T> implements AutoCloseable {
         throw new IllegalStateException("The tensor is already attached to an eager session");
       }
       eagerRef = new EagerReference(session, tensor);
+      // The session is now responsible of releasing the tensor once it is garbage collected
+      clear();
+    }
+
+    @Override
+    void delete() {
+      release();
+    }
+
+    synchronized long detach() {
+      long handle = tensorHandle;
+      if (handle != 0L) {
+        if (eagerRef != null) {
+          eagerRef.clear();
+          eagerRef = null;
+        }
+        clear();
+        tensorHandle = 0L;
+        TensorMemory.released(this, dtype, numBytes);
+      }
+      return handle;
+    }
+
+    synchronized void replace(long handle) {
+      if (tensorHandle == 0L) {
+        Tensor.delete(handle);
+        throw new IllegalStateException("Tensor has been closed");
+      }
+      Tensor.delete(tensorHandle);
+      tensorHandle = handle;
     }
 
     synchronized void release() {
@@ -656,13 +1048,17 @@ public final class Tensor<T> implements AutoCloseable {
           eagerRef.clear();
           eagerRef = null;
         }
+        clear();
         Tensor.delete(tensorHandle);
         tensorHandle = 0L;
+        TensorMemory.released(this, dtype, numBytes);
       }
     }
 
     private long tensorHandle;
     private EagerReference eagerRef;
+    private final DataType dtype;
+    private final long numBytes;
   }
 
   private static HashMap<Class<?>, DataType> classDataTypes = new HashMap<>();
@@ -676,6 +1072,8 @@ public final class Tensor<T> implements AutoCloseable {
     classDataTypes.put(Float.class, DataType.FLOAT);
     classDataTypes.put(double.class, DataType.DOUBLE);
     classDataTypes.put(Double.class, DataType.DOUBLE);
+    classDataTypes.put(short.class, DataType.INT16);
+    classDataTypes.put(Short.class, DataType.INT16);
     classDataTypes.put(byte.class, DataType.STRING);
     classDataTypes.put(Byte.class, DataType.STRING);
     classDataTypes.put(boolean.class, DataType.BOOL);
@@ -693,8 +1091,9 @@ public final class Tensor<T> implements AutoCloseable {
 
   /**
    * The default TensorFlow data type to which Java object o corresponds. Some Java objects
-   * represent more than one TensorFlow data type; for example, 'byte' can represent both {@code
-   * uint8} and {@code string}, with the latter being the default interpretation.
+   * represent more than one TensorFlow data type; for example, 'byte' can represent {@code uint8},
+   * {@code int8} and {@code string}, with the latter being the default interpretation. Similarly,
+   * unsigned types are read from and written to their signed Java counterpart of the same width.
    */
   private static DataType dataTypeOf(Object o) {
     Class<?> c = baseObjType(o);
@@ -772,10 +1171,19 @@ public final class Tensor<T> implements AutoCloseable {
     if (dto.equals(dtype)) {
       return true;
     }
-    if (dto == DataType.STRING && dtype == DataType.UINT8) {
-      return true;
+    switch (dtype) {
+      case UINT8:
+      case INT8:
+        return dto == DataType.STRING;
+      case UINT16:
+        return dto == DataType.INT16;
+      case UINT32:
+        return dto == DataType.INT32;
+      case UINT64:
+        return dto == DataType.INT64;
+      default:
+        return false;
     }
-    return false;
   }
 
   private void throwExceptionIfTypeIsIncompatible(Object o) {
@@ -810,13 +1218,16 @@ public final class Tensor<T> implements AutoCloseable {
 
   private static native long allocateNonScalarBytes(long[] shape, Object[] value);
 
+  private static native long allocateStrings(long[] shape, byte[] data, int[] offsets);
+
+  private static native void allocateBatch(
+      int[] dtypes, int[] ranks, long[] dims, byte[] data, long[] byteSizes, long[] handles);
+
   private static native void delete(long handle);
 
   private static native ByteBuffer buffer(long handle);
 
-  private static native int dtype(long handle);
-
-  private static native long[] shape(long handle);
+  private static native long[] describe(long handle);
 
   private static native void setValue(long handle, Object value);
 
@@ -824,6 +1235,8 @@ public final class Tensor<T> implements AutoCloseable {
 
   private static native double scalarDouble(long handle);
 
+  private static native short scalarShort(long handle);
+
   private static native int scalarInt(long handle);
 
   private static native long scalarLong(long handle);
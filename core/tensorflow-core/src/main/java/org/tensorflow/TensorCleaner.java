@@ -0,0 +1,116 @@
+/* Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+==============================================================================*/
+
+package org.tensorflow;
+
+import java.lang.ref.PhantomReference;
+import java.lang.ref.ReferenceQueue;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Releases the native resources of tensors that have been garbage collected without being closed.
+ *
+ * <p>This is a safety net for tensors that are not attached to an {@link EagerSession}, such as
+ * the outputs returned by {@link Session.Runner#run()}: a single background thread waits for
+ * unreachable tensors and deletes their native memory. Closing tensors explicitly remains the
+ * preferred way to release them, as the garbage collector is not aware of the native memory they
+ * hold and may not reclaim them before running out of it.
+ *
+ * <p>Registered references are kept in a concurrent set, so allocating and closing tensors from
+ * multiple threads does not contend on a global lock.
+ *
+ * <p>This safety net can be disabled, for strict ownership of the tensors, by setting the {@code
+ * org.tensorflow.Tensor.STRICT_OWNERSHIP} system property.
+ */
+final class TensorCleaner {
+
+  /**
+   * A reference to the native resources of a tensor, which are deleted once the tensor has been
+   * garbage collected.
+   *
+   * <p>Like {@link EagerSession.NativeReference}, subclasses must not hold any reference to their
+   * referent, otherwise it will never be collected.
+   */
+  abstract static class Reference extends PhantomReference<Object> {
+
+    Reference(Object referent) {
+      super(referent, ENABLED ? garbageQueue : null);
+      if (ENABLED) {
+        references.add(this);
+      }
+    }
+
+    /**
+     * Stops monitoring the referent.
+     *
+     * <p>This must be called once the native resources have been released, or when their ownership
+     * is transferred to another object.
+     */
+    @Override
+    public void clear() {
+      if (ENABLED) {
+        references.remove(this);
+      }
+      super.clear();
+    }
+
+    /** Releases the native resources owned by the referent, now collected. */
+    abstract void delete();
+  }
+
+  /** Returns true if tensors garbage collected without being closed are released. */
+  static boolean isEnabled() {
+    return ENABLED;
+  }
+
+  private static final boolean ENABLED =
+      System.getProperty("org.tensorflow.Tensor.STRICT_OWNERSHIP") == null;
+
+  private static final ReferenceQueue<Object> garbageQueue = new ReferenceQueue<>();
+  private static final Set<Reference> references =
+      Collections.newSetFromMap(new ConcurrentHashMap<Reference, Boolean>());
+
+  static {
+    if (ENABLED) {
+      Thread cleanupThread =
+          new Thread("tensorflow-tensor-cleaner") {
+            @Override
+            public void run() {
+              while (true) {
+                try {
+                  Reference reference = (Reference) garbageQueue.remove();
+                  if (references.remove(reference)) {
+                    reference.delete();
+                    TensorMemory.reclaimed();
+                  }
+                } catch (InterruptedException e) {
+                  return;
+                } catch (RuntimeException e) {
+                  // Report the failure but keep cleaning up other tensors
+                  System.err.println("Failed to release a garbage collected tensor");
+                  e.printStackTrace();
+                }
+              }
+            }
+          };
+      cleanupThread.setDaemon(true);
+      cleanupThread.start();
+    }
+  }
+
+  private TensorCleaner() {}
+}
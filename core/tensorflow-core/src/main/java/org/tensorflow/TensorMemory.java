@@ -0,0 +1,202 @@
+/* Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+==============================================================================*/
+
+package org.tensorflow;
+
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Accounting of the native memory held by {@link Tensor} objects.
+ *
+ * <p>The memory of a tensor is allocated outside of the JVM heap and is only released when the
+ * tensor is closed (or when its eager session releases it). Tensors that are never closed are
+ * therefore invisible to the garbage collector and leak native memory. This class keeps track of
+ * all tensors that are currently alive, so such leaks can be monitored:
+ *
+ * <pre>{@code
+ * System.out.println(TensorMemory.liveTensors() + " tensors hold " + TensorMemory.liveBytes()
+ *     + " bytes, up to " + TensorMemory.peakBytes() + " bytes at peak");
+ * }</pre>
+ *
+ * <p>When the JVM is started with the {@code org.tensorflow.TensorMemory.DEBUG} system property
+ * set, the stack trace where each tensor has been allocated is also captured, and the tensors that
+ * are still alive when the JVM shuts down are reported to the standard error output. Capturing
+ * stack traces is expensive and should only be done to track down leaks.
+ */
+public final class TensorMemory {
+
+  /** Returns the number of tensors that are currently allocated and not yet released. */
+  public static long liveTensors() {
+    return liveTensors.get();
+  }
+
+  /** Returns the number of bytes held by all tensors that are not yet released. */
+  public static long liveBytes() {
+    return liveBytes.get();
+  }
+
+  /**
+   * Returns the number of bytes held by all tensors of a given type that are not yet released.
+   *
+   * @param dataType type of the tensors
+   */
+  public static long liveBytes(DataType dataType) {
+    return liveBytesPerType.get(dataType.ordinal());
+  }
+
+  /** Returns the highest value reached by {@link #liveBytes()} since the last reset. */
+  public static long peakBytes() {
+    return peakBytes.get();
+  }
+
+  /** Resets the value returned by {@link #peakBytes()} to the current number of live bytes. */
+  public static void resetPeakBytes() {
+    peakBytes.set(liveBytes.get());
+  }
+
+  /**
+   * Returns the number of tensors that have been released after being garbage collected, instead
+   * of being closed explicitly.
+   *
+   * <p>A growing value indicates that some tensors are not closed by the application. Such tensors
+   * are only released when the {@code org.tensorflow.Tensor.STRICT_OWNERSHIP} system property is
+   * not set, otherwise they leak.
+   */
+  public static long reclaimedTensors() {
+    return reclaimedTensors.get();
+  }
+
+  /**
+   * Returns true if the allocation site of each tensor is captured.
+   *
+   * <p>Allocation sites are captured when the {@code org.tensorflow.TensorMemory.DEBUG} system
+   * property is set.
+   */
+  public static boolean isTrackingAllocations() {
+    return DEBUG;
+  }
+
+  /**
+   * Prints a summary of the native memory held by tensors.
+   *
+   * <p>If allocation sites are captured, the tensors that are still alive are also listed with the
+   * stack trace where they have been allocated.
+   *
+   * @param out stream where to print the report
+   */
+  public static void report(PrintStream out) {
+    out.println(
+        String.format(
+            "%d live tensors holding %d bytes (peak: %d bytes, %d tensors reclaimed)",
+            liveTensors(), liveBytes(), peakBytes(), reclaimedTensors()));
+    for (DataType dataType : DataType.values()) {
+      long bytes = liveBytes(dataType);
+      if (bytes > 0) {
+        out.println(String.format("  %s: %d bytes", dataType, bytes));
+      }
+    }
+    if (allocations != null) {
+      for (Allocation allocation : allocations.values()) {
+        out.println(
+            String.format(
+                "Unclosed %s tensor of %d bytes, allocated at:",
+                allocation.dataType, allocation.numBytes));
+        StackTraceElement[] stackTrace = allocation.site.getStackTrace();
+        for (StackTraceElement element : stackTrace) {
+          out.println("\tat " + element);
+        }
+      }
+    }
+  }
+
+  /**
+   * Records the allocation of the native memory of a tensor.
+   *
+   * @param ref the object owning the native memory, to be passed to {@link #released}
+   */
+  static void allocated(Object ref, DataType dataType, long numBytes) {
+    liveTensors.incrementAndGet();
+    liveBytesPerType.addAndGet(dataType.ordinal(), numBytes);
+    long bytes = liveBytes.addAndGet(numBytes);
+    long peak;
+    while (bytes > (peak = peakBytes.get()) && !peakBytes.compareAndSet(peak, bytes)) {
+      // retry until the peak is higher than the value we just computed
+    }
+    if (allocations != null) {
+      allocations.put(ref, new Allocation(dataType, numBytes));
+    }
+  }
+
+  /** Records the release of the native memory of a tensor. */
+  static void released(Object ref, DataType dataType, long numBytes) {
+    liveTensors.decrementAndGet();
+    liveBytesPerType.addAndGet(dataType.ordinal(), -numBytes);
+    liveBytes.addAndGet(-numBytes);
+    if (allocations != null) {
+      allocations.remove(ref);
+    }
+  }
+
+  /** Records that a tensor has been released after being garbage collected. */
+  static void reclaimed() {
+    reclaimedTensors.incrementAndGet();
+  }
+
+  private static final boolean DEBUG =
+      System.getProperty("org.tensorflow.TensorMemory.DEBUG") != null;
+
+  private static final AtomicLong liveTensors = new AtomicLong();
+  private static final AtomicLong liveBytes = new AtomicLong();
+  private static final AtomicLong peakBytes = new AtomicLong();
+  private static final AtomicLong reclaimedTensors = new AtomicLong();
+  private static final AtomicLongArray liveBytesPerType =
+      new AtomicLongArray(DataType.values().length);
+  private static final Map<Object, Allocation> allocations =
+      DEBUG ? new ConcurrentHashMap<Object, Allocation>() : null;
+
+  private static class Allocation {
+
+    Allocation(DataType dataType, long numBytes) {
+      this.dataType = dataType;
+      this.numBytes = numBytes;
+      this.site = new Throwable();
+    }
+
+    private final DataType dataType;
+    private final long numBytes;
+    private final Throwable site;
+  }
+
+  static {
+    if (DEBUG) {
+      Runtime.getRuntime()
+          .addShutdownHook(
+              new Thread() {
+                @Override
+                public void run() {
+                  if (liveTensors() > 0) {
+                    report(System.err);
+                  }
+                }
+              });
+    }
+  }
+
+  private TensorMemory() {}
+}
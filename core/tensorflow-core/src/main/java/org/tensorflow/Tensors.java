@@ -17,10 +17,164 @@ package org.tensorflow;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
 /** Type-safe factory methods for creating {@link org.tensorflow.Tensor} objects. */
 public final class Tensors {
   private Tensors() {}
 
+  /**
+   * Returns a builder that creates several tensors at once.
+   *
+   * <p>All tensors added to the builder are allocated in a single call to the native library,
+   * which is cheaper than creating them one by one when feeding many small inputs to a session.
+   * For example:
+   *
+   * <pre>{@code
+   * List<Tensor<?>> inputs = Tensors.batchCreate()
+   *     .add(new long[] {2, 2}, FloatBuffer.wrap(new float[] {1, 2, 3, 4}))
+   *     .add(new long[] {3}, LongBuffer.wrap(new long[] {5, 6, 7}))
+   *     .build();
+   * }</pre>
+   *
+   * <p>The tensors are returned in the order they have been added and, like any other tensor,
+   * each of them must be closed by the caller.
+   */
+  public static BatchBuilder batchCreate() {
+    return new BatchBuilder();
+  }
+
+  /**
+   * Builder of a batch of tensors, allocated together.
+   *
+   * @see #batchCreate()
+   */
+  public static final class BatchBuilder {
+
+    /**
+     * Adds a {@link DataType#FLOAT FLOAT} tensor to the batch.
+     *
+     * <p>The data is only read when {@link #build()} is invoked, from the current position of the
+     * buffer.
+     *
+     * @param shape the tensor shape
+     * @param data a buffer containing the tensor data
+     * @return this builder
+     */
+    public BatchBuilder add(long[] shape, FloatBuffer data) {
+      return add(DataType.FLOAT, shape, data);
+    }
+
+    /**
+     * Adds a {@link DataType#DOUBLE DOUBLE} tensor to the batch.
+     *
+     * <p>The data is only read when {@link #build()} is invoked, from the current position of the
+     * buffer.
+     *
+     * @param shape the tensor shape
+     * @param data a buffer containing the tensor data
+     * @return this builder
+     */
+    public BatchBuilder add(long[] shape, DoubleBuffer data) {
+      return add(DataType.DOUBLE, shape, data);
+    }
+
+    /**
+     * Adds an {@link DataType#INT32 INT32} tensor to the batch.
+     *
+     * <p>The data is only read when {@link #build()} is invoked, from the current position of the
+     * buffer.
+     *
+     * @param shape the tensor shape
+     * @param data a buffer containing the tensor data
+     * @return this builder
+     */
+    public BatchBuilder add(long[] shape, IntBuffer data) {
+      return add(DataType.INT32, shape, data);
+    }
+
+    /**
+     * Adds an {@link DataType#INT64 INT64} tensor to the batch.
+     *
+     * <p>The data is only read when {@link #build()} is invoked, from the current position of the
+     * buffer.
+     *
+     * @param shape the tensor shape
+     * @param data a buffer containing the tensor data
+     * @return this builder
+     */
+    public BatchBuilder add(long[] shape, LongBuffer data) {
+      return add(DataType.INT64, shape, data);
+    }
+
+    /**
+     * Adds an {@link DataType#INT16 INT16} tensor to the batch.
+     *
+     * <p>The data is only read when {@link #build()} is invoked, from the current position of the
+     * buffer.
+     *
+     * @param shape the tensor shape
+     * @param data a buffer containing the tensor data
+     * @return this builder
+     */
+    public BatchBuilder add(long[] shape, ShortBuffer data) {
+      return add(DataType.INT16, shape, data);
+    }
+
+    /**
+     * Adds a tensor of any type but {@link DataType#STRING STRING} to the batch.
+     *
+     * <p>The data is only read when {@link #build()} is invoked, from the current position of the
+     * buffer. Like in {@link Tensor#create(Class, long[], ByteBuffer)}, multi-byte values must be
+     * encoded in native byte order.
+     *
+     * @param type the tensor element type, represented as a class object
+     * @param shape the tensor shape
+     * @param data a buffer containing the tensor data
+     * @return this builder
+     * @throws IllegalArgumentException if {@code type} is {@code String.class}
+     */
+    public BatchBuilder add(Class<?> type, long[] shape, ByteBuffer data) {
+      return add(DataType.fromClass(type), shape, data);
+    }
+
+    /**
+     * Allocates all tensors added to this builder and copies their data.
+     *
+     * <p>Either all tensors are created, or none of them is.
+     *
+     * @return the new tensors, in the order they have been added
+     * @throws IllegalArgumentException if the data of a tensor does not match its shape
+     */
+    public List<Tensor<?>> build() {
+      return Tensor.createBatch(dataTypes, shapes, buffers);
+    }
+
+    private final List<DataType> dataTypes = new ArrayList<>();
+    private final List<long[]> shapes = new ArrayList<>();
+    private final List<Buffer> buffers = new ArrayList<>();
+
+    private BatchBuilder() {}
+
+    private BatchBuilder add(DataType dataType, long[] shape, Buffer data) {
+      if (dataType == DataType.STRING) {
+        throw new IllegalArgumentException("STRING tensors cannot be created in a batch");
+      }
+      dataTypes.add(dataType);
+      shapes.add(shape);
+      buffers.add(data);
+      return this;
+    }
+  }
+
   /**
    * Creates a scalar String tensor using the default, UTF-8 encoding.
    *
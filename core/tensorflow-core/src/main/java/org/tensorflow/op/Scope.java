@@ -85,7 +85,7 @@ public final class Scope {
    * @param env The execution environment used by the scope.
    */
   public Scope(ExecutionEnvironment env) {
-    this(env, new NameScope(), new ArrayList<Operand<?>>());
+    this(env, new NameScope(), new ArrayList<Operand<?>>(), "");
   }
 
   /** Returns the execution environment used by this scope. */
@@ -107,7 +107,7 @@ public final class Scope {
    * @throws IllegalArgumentException if the name is invalid
    */
   public Scope withSubScope(String childScopeName) {
-    return new Scope(env, nameScope.withSubScope(childScopeName), controlDependencies);
+    return new Scope(env, nameScope.withSubScope(childScopeName), controlDependencies, device);
   }
 
   /**
@@ -123,7 +123,7 @@ public final class Scope {
    * @throws IllegalArgumentException if the name is invalid
    */
   public Scope withName(String opName) {
-    return new Scope(env, nameScope.withName(opName), controlDependencies);
+    return new Scope(env, nameScope.withName(opName), controlDependencies, device);
   }
 
   /**
@@ -151,10 +151,14 @@ public final class Scope {
   }
 
   private Scope(
-      ExecutionEnvironment env, NameScope nameScope, Iterable<Operand<?>> controlDependencies) {
+      ExecutionEnvironment env,
+      NameScope nameScope,
+      Iterable<Operand<?>> controlDependencies,
+      String device) {
     this.env = env;
     this.nameScope = nameScope;
     this.controlDependencies = controlDependencies;
+    this.device = device;
   }
 
   /**
@@ -167,15 +171,58 @@ public final class Scope {
    * @return a new scope with the provided control dependencies
    */
   public Scope withControlDependencies(Iterable<Operand<?>> controls) {
-    return new Scope(env, nameScope, controls);
+    return new Scope(env, nameScope, controls, device);
+  }
+
+  /**
+   * Returns a new scope where added operations will be placed on the provided device.
+   *
+   * <p>The device is specified as in {@link OperationBuilder#setDevice(String)}, e.g. {@code
+   * "/cpu:1"}, and an empty string lets the session choose the device. All other properties are
+   * inherited from the current scope. For example, to split a graph between the CPU devices of a
+   * session (see {@link org.tensorflow.Session#listDevices()}):
+   *
+   * <pre>{@code
+   * Scope left = scope.withSubScope("left").withDevice("/cpu:0");
+   * Scope right = scope.withSubScope("right").withDevice("/cpu:1");
+   * }</pre>
+   *
+   * @param device device for ops created with the returned scope
+   * @return a new scope placing its ops on the provided device
+   */
+  public Scope withDevice(String device) {
+    return new Scope(env, nameScope, controlDependencies, device);
+  }
+
+  /** Returns the device of the ops created with this scope, or an empty string if unspecified. */
+  public String device() {
+    return device;
+  }
+
+  /**
+   * Applies the properties of this scope to the provided builder.
+   *
+   * <p>Same as {@link #applyControlDependencies(OperationBuilder)}.
+   *
+   * @param builder OperationBuilder to apply the properties of this scope to
+   */
+  public OperationBuilder apply(OperationBuilder builder) {
+    return applyControlDependencies(builder);
   }
 
   /**
    * Adds each Operand in controlDependencies as a control input to the provided builder.
    *
+   * <p>This method also places the operation on the device of this scope, if any. It is the call
+   * made by all generated operation classes before building their operation, so it applies every
+   * property of the scope to them.
+   *
    * @param builder OperationBuilder to add control inputs to
    */
   public OperationBuilder applyControlDependencies(OperationBuilder builder) {
+    if (!device.isEmpty()) {
+      builder = builder.setDevice(device);
+    }
     for (Operand<?> control : controlDependencies) {
       builder = builder.addControlInput(control.asOutput().op());
     }
@@ -185,4 +232,5 @@ public final class Scope {
   private final ExecutionEnvironment env;
   private final Iterable<Operand<?>> controlDependencies;
   private final NameScope nameScope;
+  private final String device;
 }
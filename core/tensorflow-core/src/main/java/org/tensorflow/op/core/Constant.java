@@ -23,10 +23,12 @@ import java.nio.FloatBuffer;
 import java.nio.IntBuffer;
 import java.nio.LongBuffer;
 import java.nio.charset.Charset;
+import java.util.Collections;
 
 import org.tensorflow.DataType;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
+import org.tensorflow.OperationBuilder;
 import org.tensorflow.Output;
 import org.tensorflow.Tensor;
 import org.tensorflow.op.PrimitiveOp;
@@ -638,13 +640,16 @@ public final class Constant<T> extends PrimitiveOp implements Operand<T> {
   }
 
   private static <T> Constant<T> createWithTensor(Scope scope, Tensor<T> value) {
-    return new Constant<T>(
+    OperationBuilder opBuilder =
         scope
             .env()
             .opBuilder("Const", scope.makeOpName("Const"))
             .setAttr("value", value)
-            .setAttr("dtype", value.dataType())
-            .build());
+            .setAttr("dtype", value.dataType());
+    // Constants are placed on the device of the scope but, as before, do not take its control
+    // dependencies
+    Scope placement = scope.withControlDependencies(Collections.<Operand<?>>emptyList());
+    return new Constant<T>(placement.apply(opBuilder).build());
   }
 
   @Override
@@ -18,6 +18,8 @@ package org.tensorflow;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.util.HashSet;
@@ -102,6 +104,21 @@ public class GraphTest {
     }
   }
 
+  @Test
+  public void cacheOperationsByName() {
+    try (Graph g = new Graph()) {
+      assertNull(g.operation("a"));
+      TestUtil.constant(g, "a", 1);
+      GraphOperation a = g.operation("a");
+      assertNotNull(a);
+      assertSame(a, g.operation("a"));
+
+      TestUtil.constant(g, "b", 2);
+      assertSame(a, g.operation("a"));
+      assertEquals("b", g.operation("b").name());
+    }
+  }
+
   @Test
   public void failImportOnInvalidGraphDefs() {
     try (Graph g = new Graph()) {
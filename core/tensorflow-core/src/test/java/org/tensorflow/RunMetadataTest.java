@@ -0,0 +1,113 @@
+/* Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+==============================================================================*/
+
+package org.tensorflow;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Unit tests for {@link RunMetadata}. */
+@RunWith(JUnit4.class)
+public class RunMetadataTest {
+
+  @Test
+  public void parseStepStats() {
+    RunMetadata metadata = RunMetadata.parseFrom(sampleMetadata());
+    assertEquals(1, metadata.stepStats().size());
+    RunMetadata.DeviceStepStats device = metadata.stepStats().get(0);
+    assertEquals("/job:localhost/replica:0/task:0/device:CPU:0", device.device());
+    assertEquals(1, device.nodeStats().size());
+
+    RunMetadata.NodeExecStats node = device.nodeStats().get(0);
+    assertEquals("y", node.nodeName());
+    assertEquals("y = MatMul(a, b)", node.timelineLabel());
+    assertEquals(1000000L, node.allStartMicros());
+    assertEquals(2, node.opStartRelMicros());
+    assertEquals(10, node.opEndRelMicros());
+    assertEquals(12, node.allEndRelMicros());
+    assertEquals(7, node.threadId());
+    assertEquals(64, node.tempMemorySize());
+    assertEquals(1, node.memory().size());
+    assertEquals("cpu", node.memory().get(0).allocatorName());
+    assertEquals(256, node.memory().get(0).totalBytes());
+    assertEquals(128, node.memory().get(0).peakBytes());
+  }
+
+  @Test
+  public void exportChromeTrace() {
+    String trace = RunMetadata.parseFrom(sampleMetadata()).toChromeTrace();
+    assertTrue(trace.startsWith("{\"traceEvents\":["));
+    assertTrue(
+        trace.contains(
+            "{\"name\":\"process_name\",\"ph\":\"M\",\"pid\":0,"
+                + "\"args\":{\"name\":\"/job:localhost/replica:0/task:0/device:CPU:0\"}}"));
+    assertTrue(
+        trace.contains(
+            "{\"name\":\"MatMul\",\"cat\":\"Op\",\"ph\":\"X\",\"ts\":1000000,\"dur\":12,"
+                + "\"pid\":0,\"tid\":7,\"args\":{\"name\":\"y\",\"label\":\"y = MatMul(a, b)\"}}"));
+  }
+
+  @Test
+  public void parseEmptyMetadata() {
+    assertTrue(RunMetadata.parseFrom(new byte[0]).stepStats().isEmpty());
+  }
+
+  @Test
+  public void failOnTruncatedMetadata() {
+    byte[] data = sampleMetadata();
+    try {
+      RunMetadata.parseFrom(Arrays.copyOf(data, data.length - 4));
+      fail("should not parse a truncated message");
+    } catch (IllegalArgumentException e) {
+      // expected exception
+    }
+  }
+
+  private static byte[] sampleMetadata() {
+    byte[] memory =
+        new ProtoWire.Writer()
+            .writeString(1, "cpu")
+            .writeVarint(2, 256)
+            .writeVarint(3, 128)
+            .toByteArray();
+    byte[] memoryStats = new ProtoWire.Writer().writeVarint(1, 64).toByteArray();
+    byte[] node =
+        new ProtoWire.Writer()
+            .writeString(1, "y")
+            .writeVarint(2, 1000000)
+            .writeVarint(3, 2)
+            .writeVarint(4, 10)
+            .writeVarint(5, 12)
+            .writeBytes(6, memory)
+            .writeString(8, "y = MatMul(a, b)")
+            .writeVarint(10, 7)
+            .writeBytes(12, memoryStats)
+            .writeVarint(13, 1000000000) // all_start_nanos, ignored
+            .toByteArray();
+    byte[] device =
+        new ProtoWire.Writer()
+            .writeString(1, "/job:localhost/replica:0/task:0/device:CPU:0")
+            .writeBytes(2, node)
+            .toByteArray();
+    byte[] stepStats = new ProtoWire.Writer().writeBytes(1, device).toByteArray();
+    return new ProtoWire.Writer().writeBytes(1, stepStats).toByteArray();
+  }
+}
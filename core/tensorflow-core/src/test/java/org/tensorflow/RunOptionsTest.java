@@ -0,0 +1,52 @@
+/* Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+==============================================================================*/
+
+package org.tensorflow;
+
+import static org.junit.Assert.assertArrayEquals;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Unit tests for {@link RunOptions}. */
+@RunWith(JUnit4.class)
+public class RunOptionsTest {
+
+  @Test
+  public void defaultOptionsAreEmpty() {
+    assertArrayEquals(new byte[0], RunOptions.create().toByteArray());
+  }
+
+  @Test
+  public void serializeOptions() {
+    byte[] expected = {
+      0x08, 0x03, // trace_level: FULL_TRACE
+      0x10, (byte) 0xE8, 0x07, // timeout_in_ms: 1000
+      0x18, 0x02, // inter_op_thread_pool: 2
+      0x28, 0x01, // output_partition_graphs: true
+      0x38, 0x01 // report_tensor_allocations_upon_oom: true
+    };
+    byte[] actual =
+        RunOptions.create()
+            .traceLevel(RunOptions.TraceLevel.FULL_TRACE)
+            .timeoutInMs(1000)
+            .interOpThreadPool(2)
+            .outputPartitionGraphs(true)
+            .reportTensorAllocationsUponOom(true)
+            .toByteArray();
+    assertArrayEquals(expected, actual);
+  }
+}
@@ -0,0 +1,97 @@
+/* Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+==============================================================================*/
+
+package org.tensorflow;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Unit tests for {@link ScalarTensorCache}. */
+@RunWith(JUnit4.class)
+public class ScalarTensorCacheTest {
+
+  @Test
+  public void returnsSameTensorForSameValue() {
+    ScalarTensorCache cache = new ScalarTensorCache();
+    Tensor<Float> f = cache.get(0.5f);
+    assertSame(f, cache.get(0.5f));
+    assertEquals(0.5f, f.floatValue(), 0.0f);
+    assertEquals(1, cache.size());
+
+    // Same bits, different types
+    assertNotSame(cache.get(1), cache.get(1L));
+    assertEquals(DataType.INT32, cache.get(1).dataType());
+    assertEquals(DataType.INT64, cache.get(1L).dataType());
+    assertTrue(cache.get(true).booleanValue());
+    assertEquals(2.0, cache.get(2.0).doubleValue(), 0.0);
+  }
+
+  @Test
+  public void keepsAllValues() {
+    ScalarTensorCache cache = new ScalarTensorCache();
+    Tensor<Integer> zero = cache.get(0);
+    for (int i = 1; i < 1000; ++i) {
+      cache.get(i);
+    }
+    assertEquals(1000, cache.size());
+    assertSame(zero, cache.get(0));
+    assertEquals(0, zero.intValue());
+  }
+
+  @Test
+  public void closeHasNoEffect() {
+    ScalarTensorCache cache = new ScalarTensorCache();
+    try (Tensor<Integer> t = cache.get(42)) {
+      assertEquals(42, t.intValue());
+    }
+    assertEquals(42, cache.get(42).intValue());
+  }
+
+  @Test
+  public void feedSharedTensor() {
+    ScalarTensorCache cache = new ScalarTensorCache();
+    try (Graph g = new Graph();
+        Session s = new Session(g)) {
+      Output<Integer> x = TestUtil.placeholder(g, "x", Integer.class);
+      TestUtil.addN(g, x, x);
+      for (int i = 0; i < 2; ++i) {
+        try (Tensor<Integer> result =
+            s.runner().feed("x", cache.get(3)).fetch("AddN").run().get(0).expect(Integer.class)) {
+          assertEquals(6, result.intValue());
+        }
+      }
+    }
+  }
+
+  @Test
+  public void failFetchIntoSharedTensor() {
+    ScalarTensorCache cache = new ScalarTensorCache();
+    try (Graph g = new Graph();
+        Session s = new Session(g)) {
+      TestUtil.constant(g, "c", 1);
+      s.runner().fetch("c", cache.get(0));
+      fail("should not fetch values into a shared tensor");
+    } catch (IllegalArgumentException e) {
+      // The expected exception.
+    }
+  }
+}
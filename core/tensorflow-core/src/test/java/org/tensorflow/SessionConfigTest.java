@@ -0,0 +1,98 @@
+/* Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+==============================================================================*/
+
+package org.tensorflow;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Unit tests for {@link SessionConfig}. */
+@RunWith(JUnit4.class)
+public class SessionConfigTest {
+
+  @Test
+  public void defaultConfigIsEmpty() {
+    assertArrayEquals(new byte[0], SessionConfig.create().toByteArray());
+  }
+
+  @Test
+  public void serializeThreads() {
+    byte[] expected = {
+      0x10, 0x01, // intra_op_parallelism_threads: 1
+      0x28, 0x01 // inter_op_parallelism_threads: 1
+    };
+    byte[] actual =
+        SessionConfig.create()
+            .intraOpParallelismThreads(1)
+            .interOpParallelismThreads(1)
+            .toByteArray();
+    assertArrayEquals(expected, actual);
+    assertArrayEquals(SessionTest.singleThreadConfigProto(), actual);
+  }
+
+  @Test
+  public void serializeConfig() {
+    byte[] expected = {
+      0x10, 0x04, // intra_op_parallelism_threads: 4
+      0x28, 0x02, // inter_op_parallelism_threads: 2
+      0x38, 0x01, // allow_soft_placement: true
+      0x48, 0x01, // use_per_session_threads: true
+      0x52, 0x11, // graph_options
+      0x1A, 0x0F, // optimizer_options
+      0x18, -1, -1, -1, -1, -1, -1, -1, -1, -1, 0x01, // opt_level: L0
+      0x20, 0x01, // do_function_inlining: true
+      0x28, 0x01, // global_jit_level: ON_1
+      0x58, (byte) 0xF4, 0x03, // operation_timeout_in_ms: 500
+      0x62, 0x02, 0x08, 0x03, // session_inter_op_thread_pool { num_threads: 3 }
+      0x62, 0x03, 0x12, 0x01, 'p' // session_inter_op_thread_pool { global_name: "p" }
+    };
+    byte[] actual =
+        SessionConfig.create()
+            .intraOpParallelismThreads(4)
+            .interOpParallelismThreads(2)
+            .allowSoftPlacement(true)
+            .usePerSessionThreads(true)
+            .optimizerLevel(SessionConfig.OptimizerLevel.L0)
+            .doFunctionInlining(true)
+            .globalJitLevel(SessionConfig.GlobalJitLevel.ON_1)
+            .operationTimeoutInMs(500)
+            .addSessionInterOpThreadPool(3)
+            .addSessionInterOpThreadPool(0, "p")
+            .toByteArray();
+    assertArrayEquals(expected, actual);
+  }
+
+  @Test
+  public void serializeDeviceCount() {
+    byte[] expected = {
+      0x0A, 0x07, 0x0A, 0x03, 'C', 'P', 'U', 0x10, 0x04 // device_count { key: "CPU" value: 4 }
+    };
+    assertArrayEquals(expected, SessionConfig.create().deviceCount("CPU", 4).toByteArray());
+  }
+
+  @Test
+  public void failOnNegativeThreads() {
+    try {
+      SessionConfig.create().intraOpParallelismThreads(-1);
+      fail();
+    } catch (IllegalArgumentException e) {
+      // expected exception
+    }
+  }
+}
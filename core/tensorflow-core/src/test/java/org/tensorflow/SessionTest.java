@@ -17,9 +17,17 @@ package org.tensorflow;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
@@ -60,6 +68,87 @@ public class SessionTest {
     }
   }
 
+  @Test
+  public void runIntoProvidedTensors() {
+    try (Graph g = new Graph();
+        Session s = new Session(g)) {
+      TestUtil.transpose_A_times_X(g, new int[][] {{2}, {3}});
+      TestUtil.constant(g, "c", 2718);
+      try (Tensor<Integer> y = Tensors.create(new int[1][1])) {
+        for (int i = 0; i < 2; ++i) {
+          try (Tensor<Integer> x = Tensors.create(new int[][] {{5 + i}, {7}});
+              Tensor<?> c = s.runner().feed("X", x).fetch("Y", y).fetch("c").run().get(1)) {
+            assertEquals(2718, c.intValue());
+          }
+          final int[][] expected = {{31 + 2 * i}};
+          assertArrayEquals(expected, y.copyTo(new int[1][1]));
+        }
+        List<Tensor<?>> outputs = s.runner().fetch("Y", y).run();
+        assertSame(y, outputs.get(0));
+      }
+    }
+  }
+
+  @Test
+  public void reuseRunner() {
+    try (Graph g = new Graph();
+        Session s = new Session(g)) {
+      TestUtil.transpose_A_times_X(g, new int[][] {{2}, {3}});
+      Session.Runner runner = s.runner().feed("X", null).fetch("Y");
+      for (int i = 0; i < 3; ++i) {
+        try (Tensor<Integer> x = Tensors.create(new int[][] {{5 + i}, {7}});
+            Tensor<?> y = runner.reset().setInput(0, x).run().get(0)) {
+          final int[][] expected = {{31 + 2 * i}};
+          assertArrayEquals(expected, y.copyTo(new int[1][1]));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void failRunnerWithoutInputAfterReset() {
+    try (Graph g = new Graph();
+        Session s = new Session(g);
+        Tensor<Integer> x = Tensors.create(new int[][] {{5}, {7}})) {
+      TestUtil.transpose_A_times_X(g, new int[][] {{2}, {3}});
+      Session.Runner runner = s.runner().feed("X", x).fetch("Y");
+      runner.run().get(0).close();
+      runner.reset();
+      try {
+        runner.run();
+        fail();
+      } catch (IllegalStateException e) {
+        // expected exception
+      }
+      try {
+        runner.setInput(1, x);
+        fail();
+      } catch (IndexOutOfBoundsException e) {
+        // expected exception
+      }
+    }
+  }
+
+  @Test
+  public void failRunIntoIncompatibleTensor() {
+    try (Graph g = new Graph();
+        Session s = new Session(g)) {
+      TestUtil.constant(g, "c", new int[] {1, 2, 3});
+      try (Tensor<Integer> dst = Tensors.create(new int[2])) {
+        s.runner().fetch("c", dst).run();
+        fail();
+      } catch (IllegalArgumentException e) {
+        // expected
+      }
+      try (Tensor<Float> dst = Tensors.create(new float[3])) {
+        s.runner().fetch("c", dst).run();
+        fail();
+      } catch (IllegalArgumentException e) {
+        // expected
+      }
+    }
+  }
+
   @Test
   public void runUsingColonSeparatedNames() {
     try (Graph g = new Graph();
@@ -127,6 +216,34 @@ public class SessionTest {
     }
   }
 
+  @Test
+  public void runWithStepStats() {
+    try (Graph g = new Graph();
+        Session s = new Session(g)) {
+      TestUtil.transpose_A_times_X(g, new int[][] {{2}, {3}});
+      try (Tensor<Integer> x = Tensors.create(new int[][] {{5}, {7}})) {
+        Session.Run result =
+            s.runner()
+                .feed("X", x)
+                .fetch("Y")
+                .setOptions(RunOptions.create().traceLevel(RunOptions.TraceLevel.FULL_TRACE))
+                .runAndFetchMetadata();
+        for (Tensor<?> output : result.outputs) {
+          output.close();
+        }
+        RunMetadata metadata = RunMetadata.parseFrom(result.metadata);
+        assertTrue(metadata.stepStats().size() > 0);
+        boolean found = false;
+        for (RunMetadata.DeviceStepStats device : metadata.stepStats()) {
+          for (RunMetadata.NodeExecStats node : device.nodeStats()) {
+            found |= node.nodeName().equals("Y");
+          }
+        }
+        assertTrue(found);
+      }
+    }
+  }
+
   @Test
   public void runMultipleOutputs() {
     try (Graph g = new Graph();
@@ -156,12 +273,206 @@ public class SessionTest {
     }
   }
 
+  @Test
+  public void listDevices() {
+    try (Graph g = new Graph();
+        Session s = new Session(g, SessionConfig.create().deviceCount("CPU", 2))) {
+      int cpus = 0;
+      for (Session.Device device : s.listDevices()) {
+        if (device.type().equals("CPU")) {
+          ++cpus;
+        }
+      }
+      assertEquals(2, cpus);
+    }
+  }
+
+  @Test
+  public void runCallable() {
+    try (Graph g = new Graph();
+        Session s = new Session(g)) {
+      TestUtil.transpose_A_times_X(g, new int[][] {{2}, {3}});
+      try (SessionCallable callable =
+          s.makeCallable(CallableOptions.create().feed("X").fetch("Y:0"))) {
+        for (int i = 0; i < 2; ++i) {
+          try (Tensor<Integer> x = Tensors.create(new int[][] {{5 + i}, {7}});
+              Tensor<?> y = callable.call(x).get(0)) {
+            final int[][] expected = {{31 + 2 * i}};
+            assertArrayEquals(expected, y.expect(Integer.class).copyTo(new int[1][1]));
+          }
+        }
+        try {
+          callable.call();
+          fail("should fail when the number of feeds does not match the signature");
+        } catch (IllegalArgumentException e) {
+          // expected exception
+        }
+      }
+    }
+  }
+
+  @Test
+  public void failCallableAfterRelease() {
+    try (Graph g = new Graph()) {
+      TestUtil.constant(g, "c", 1);
+      Session s = new Session(g);
+      SessionCallable released = s.makeCallable(CallableOptions.create().fetch("c"));
+      SessionCallable closed = s.makeCallable(CallableOptions.create().fetch("c"));
+      released.release();
+      try {
+        released.call();
+        fail("a callable should not be called after release() is called");
+      } catch (IllegalStateException e) {
+        // expected exception
+      }
+      s.close();
+      try {
+        closed.call();
+        fail("a callable should not be called after its session is closed");
+      } catch (IllegalStateException e) {
+        // expected exception
+      }
+    }
+  }
+
+  @Test
+  public void partialRun() {
+    try (Graph g = new Graph();
+        Session s = new Session(g)) {
+      Output<Integer> x = TestUtil.placeholder(g, "x", Integer.class);
+      Output<Integer> y = TestUtil.placeholder(g, "y", Integer.class);
+      Output<Integer> a = TestUtil.addN(g, x, x);
+      Output<Integer> b = TestUtil.addN(g, a, y);
+      try (Session.PartialRun run =
+              s.partialRunSetup(
+                  Arrays.asList(x, y), Arrays.asList(a, b), new ArrayList<Operation>());
+          Tensor<Integer> tx = Tensors.create(3);
+          Tensor<Integer> ty = Tensors.create(4)) {
+        try (Tensor<Integer> ta = run.feed(x, tx).fetch(a).run().get(0).expect(Integer.class)) {
+          assertEquals(6, ta.intValue());
+        }
+        // The value of "a" computed in the previous step is reused
+        try (Tensor<Integer> tb = run.feed(y, ty).fetch(b).run().get(0).expect(Integer.class)) {
+          assertEquals(10, tb.intValue());
+        }
+      }
+    }
+  }
+
+  @Test
+  public void failPartialRunOnUndeclaredFeed() {
+    try (Graph g = new Graph();
+        Session s = new Session(g)) {
+      Output<Integer> x = TestUtil.placeholder(g, "x", Integer.class);
+      Output<Integer> y = TestUtil.placeholder(g, "y", Integer.class);
+      Output<Integer> a = TestUtil.addN(g, x, y);
+      try (Session.PartialRun run =
+              s.partialRunSetup(
+                  Arrays.asList(x), Arrays.asList(a), new ArrayList<Operation>());
+          Tensor<Integer> ty = Tensors.create(1)) {
+        run.feed(y, ty).run();
+        fail("should not feed a value that was not declared in the setup of a partial run");
+      } catch (IllegalArgumentException e) {
+        // expected exception
+      }
+    }
+  }
+
+  @Test
+  public void failOnPartialRunAfterClose() {
+    try (Graph g = new Graph();
+        Session s = new Session(g)) {
+      Output<Integer> x = TestUtil.placeholder(g, "x", Integer.class);
+      Session.PartialRun run =
+          s.partialRunSetup(
+              Arrays.asList(x), new ArrayList<Output<?>>(), new ArrayList<Operation>());
+      run.close();
+      try {
+        run.run();
+        fail("methods on a partial run should fail after close() is called");
+      } catch (IllegalStateException e) {
+        // expected exception
+      }
+    }
+  }
+
+  @Test
+  public void failOnRunTimeout() {
+    try (Graph g = new Graph();
+        Session s = new Session(g)) {
+      blockingDequeue(g);
+      try {
+        s.runner().fetch("dequeue").setTimeout(100, TimeUnit.MILLISECONDS).run();
+        fail("should fail when a run does not complete before its deadline");
+      } catch (DeadlineExceededException e) {
+        // expected exception
+      }
+    }
+  }
+
+  @Test
+  public void cancelActiveRuns() throws InterruptedException {
+    // A run is counted as active just before it enters TensorFlow: if the session is cancelled
+    // right in between, the run fails because the session is closed instead of being cancelled,
+    // and the test is attempted again
+    RuntimeException failure = null;
+    for (int attempt = 0; attempt < 10; ++attempt) {
+      failure = cancelBlockingRun();
+      if (!(failure instanceof IllegalStateException)) {
+        break;
+      }
+    }
+    assertNotNull(failure);
+    assertSame(TensorFlowException.class, failure.getClass());
+    assertTrue(failure.getMessage(), failure.getMessage().toLowerCase().contains("cancel"));
+  }
+
+  // Cancels a session while it runs an operation that blocks, and returns the failure of the run
+  private static RuntimeException cancelBlockingRun() throws InterruptedException {
+    try (Graph g = new Graph();
+        Session s = new Session(g)) {
+      blockingDequeue(g);
+      final Session session = s;
+      final AtomicReference<RuntimeException> failure = new AtomicReference<RuntimeException>();
+      Thread runner =
+          new Thread() {
+            @Override
+            public void run() {
+              try {
+                session.runner().fetch("dequeue").run();
+              } catch (RuntimeException e) {
+                failure.set(e);
+              }
+            }
+          };
+      runner.start();
+      while (s.numActiveRuns() == 0 && runner.isAlive()) {
+        Thread.sleep(1);
+      }
+      s.cancel();
+      runner.join(10000);
+      assertFalse(runner.isAlive());
+      return failure.get();
+    }
+  }
+
   @Test
   public void createWithConfigProto() {
     try (Graph g = new Graph();
         Session s = new Session(g, singleThreadConfigProto())) {}
   }
 
+  // Adds an operation named "dequeue" that blocks until it is cancelled, as its queue stays empty
+  private static void blockingDequeue(Graph g) {
+    DataType[] types = {DataType.FLOAT};
+    GraphOperation queue =
+        g.opBuilder("FIFOQueueV2", "queue").setAttr("component_types", types).build();
+    g.opBuilder("QueueDequeueV2", "dequeue")
+        .addInput(queue.output(0))
+        .setAttr("component_types", types)
+        .build();
+  }
+
   private static byte[] fullTraceRunOptions() {
     // Ideally this would use the generated Java sources for protocol buffers
     // and end up with something like the snippet below. However, generating
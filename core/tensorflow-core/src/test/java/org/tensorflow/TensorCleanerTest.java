@@ -0,0 +1,46 @@
+/* Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+==============================================================================*/
+
+package org.tensorflow;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Unit tests for {@link TensorCleaner}.
+ *
+ * <p>The build runs these tests in their own JVM, without the {@code
+ * org.tensorflow.Tensor.STRICT_OWNERSHIP} system property, so tensors released in background do
+ * not interfere with other tests.
+ */
+@RunWith(JUnit4.class)
+public class TensorCleanerTest {
+
+  @Test
+  public void unclosedTensorsAreReclaimed() throws InterruptedException {
+    assumeTrue(TensorCleaner.isEnabled());
+    long reclaimed = TensorMemory.reclaimedTensors();
+    Tensors.create(new float[1024]); // never closed
+    for (int i = 0; i < 100 && TensorMemory.reclaimedTensors() == reclaimed; ++i) {
+      System.gc();
+      Thread.sleep(50);
+    }
+    assertTrue(TensorMemory.reclaimedTensors() > reclaimed);
+  }
+}
@@ -0,0 +1,134 @@
+/* Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+==============================================================================*/
+
+package org.tensorflow;
+
+import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+
+/**
+ * Measures the time spent converting multi-dimensional Java arrays to tensors and back.
+ *
+ * <p>This is not a unit test, it must be launched explicitly, e.g. from the test classpath:
+ *
+ * <pre>{@code
+ * java -cp <test classpath> org.tensorflow.TensorConversionBenchmark
+ * }</pre>
+ *
+ * Each array holds 2^20 floats, split in dimensions of equal sizes for ranks 2 to 6 (e.g. {@code
+ * [1024][1024]} or {@code [16][16][16][16][16]}). Conversions are timed with {@link
+ * Tensor#create(Object, Class)} and {@link Tensor#copyTo(Object)}, which walk the array in JNI, and
+ * against copying each innermost row in Java to a {@link FloatBuffer}, read and written with {@link
+ * Tensor#create(long[], FloatBuffer)} and {@link Tensor#writeTo(FloatBuffer)}.
+ */
+public class TensorConversionBenchmark {
+
+  private static final int WARMUP_ITERATIONS = 20;
+  private static final int ITERATIONS = 50;
+
+  public static void main(String[] args) {
+    int[][] shapes = {
+      {1024, 1024}, {64, 128, 128}, {32, 32, 32, 32}, {16, 16, 16, 16, 16}, {8, 8, 16, 16, 8, 8}
+    };
+    for (int[] shape : shapes) {
+      Object array = Array.newInstance(float.class, shape);
+      long[] jni = time(array, shape, false);
+      long[] java = time(array, shape, true);
+      System.out.println(
+          String.format(
+              "rank %d: create %.3f ms (Java: %.3f ms), copyTo %.3f ms (Java: %.3f ms)",
+              shape.length,
+              jni[0] / 1e6,
+              java[0] / 1e6,
+              jni[1] / 1e6,
+              java[1] / 1e6));
+    }
+  }
+
+  // Returns the average time spent to create a tensor from the array and to copy it back
+  private static long[] time(Object array, int[] shape, boolean java) {
+    for (int i = 0; i < WARMUP_ITERATIONS; ++i) {
+      convert(array, shape, java);
+    }
+    long createNanos = 0;
+    long copyNanos = 0;
+    for (int i = 0; i < ITERATIONS; ++i) {
+      long[] nanos = convert(array, shape, java);
+      createNanos += nanos[0];
+      copyNanos += nanos[1];
+    }
+    return new long[] {createNanos / ITERATIONS, copyNanos / ITERATIONS};
+  }
+
+  private static long[] convert(Object array, int[] shape, boolean java) {
+    long start = System.nanoTime();
+    try (Tensor<Float> t = java ? createInJava(array, shape) : Tensor.create(array, Float.class)) {
+      long created = System.nanoTime();
+      if (java) {
+        copyInJava(t, array, shape);
+      } else {
+        t.copyTo(array);
+      }
+      return new long[] {created - start, System.nanoTime() - created};
+    }
+  }
+
+  private static Tensor<Float> createInJava(Object array, int[] shape) {
+    long[] dims = new long[shape.length];
+    int numElements = 1;
+    for (int i = 0; i < shape.length; ++i) {
+      dims[i] = shape[i];
+      numElements *= shape[i];
+    }
+    FloatBuffer buffer = newBuffer(numElements);
+    write(array, shape.length, buffer);
+    buffer.flip();
+    return Tensor.create(dims, buffer);
+  }
+
+  private static void copyInJava(Tensor<Float> t, Object array, int[] shape) {
+    FloatBuffer buffer = newBuffer(t.numElements());
+    t.writeTo(buffer);
+    buffer.flip();
+    read(buffer, shape.length, array);
+  }
+
+  private static FloatBuffer newBuffer(int numElements) {
+    ByteBuffer bytes = ByteBuffer.allocateDirect(numElements * 4);
+    return bytes.order(ByteOrder.nativeOrder()).asFloatBuffer();
+  }
+
+  private static void write(Object src, int dimsLeft, FloatBuffer dst) {
+    if (dimsLeft > 1) {
+      for (Object row : (Object[]) src) {
+        write(row, dimsLeft - 1, dst);
+      }
+    } else {
+      dst.put((float[]) src);
+    }
+  }
+
+  private static void read(FloatBuffer src, int dimsLeft, Object dst) {
+    if (dimsLeft > 1) {
+      for (Object row : (Object[]) dst) {
+        read(src, dimsLeft - 1, row);
+      }
+    } else {
+      src.get((float[]) dst);
+    }
+  }
+}
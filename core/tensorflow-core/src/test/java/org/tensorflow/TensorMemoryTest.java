@@ -0,0 +1,91 @@
+/* Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+==============================================================================*/
+
+package org.tensorflow;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Unit tests for {@link TensorMemory}.
+ *
+ * <p>These tests expect the {@code org.tensorflow.Tensor.STRICT_OWNERSHIP} system property to be
+ * set, as done by the build, so the counters are not decremented in background when tensors leaked
+ * by other tests are garbage collected. Reclaimed tensors are tested by {@link TensorCleanerTest}.
+ */
+@RunWith(JUnit4.class)
+public class TensorMemoryTest {
+
+  @Test
+  public void tracksLiveTensors() {
+    long tensors = TensorMemory.liveTensors();
+    long bytes = TensorMemory.liveBytes();
+    long doubleBytes = TensorMemory.liveBytes(DataType.DOUBLE);
+    long stringBytes = TensorMemory.liveBytes(DataType.STRING);
+    TensorMemory.resetPeakBytes();
+
+    try (Tensor<Double> t = Tensors.create(new double[] {1.0, 2.0, 3.0})) {
+      assertEquals(tensors + 1, TensorMemory.liveTensors());
+      assertEquals(bytes + 24, TensorMemory.liveBytes());
+      assertEquals(doubleBytes + 24, TensorMemory.liveBytes(DataType.DOUBLE));
+      assertEquals(bytes + 24, TensorMemory.peakBytes());
+
+      try (Tensor<String> s = Tensors.create("hello")) {
+        assertEquals(tensors + 2, TensorMemory.liveTensors());
+        assertEquals(stringBytes + s.numBytes(), TensorMemory.liveBytes(DataType.STRING));
+        assertEquals(bytes + 24 + s.numBytes(), TensorMemory.peakBytes());
+      }
+    }
+    assertEquals(tensors, TensorMemory.liveTensors());
+    assertEquals(bytes, TensorMemory.liveBytes());
+    assertEquals(doubleBytes, TensorMemory.liveBytes(DataType.DOUBLE));
+    assertEquals(stringBytes, TensorMemory.liveBytes(DataType.STRING));
+  }
+
+  @Test
+  public void closingTwiceReleasesOnce() {
+    long tensors = TensorMemory.liveTensors();
+    long bytes = TensorMemory.liveBytes();
+    Tensor<Integer> t = Tensors.create(1);
+    t.close();
+    t.close();
+    assertEquals(tensors, TensorMemory.liveTensors());
+    assertEquals(bytes, TensorMemory.liveBytes());
+  }
+
+  @Test
+  public void peakIsReset() {
+    try (Tensor<Long> t = Tensors.create(new long[16])) {
+      TensorMemory.resetPeakBytes();
+      assertEquals(TensorMemory.liveBytes(), TensorMemory.peakBytes());
+    }
+    assertEquals(TensorMemory.liveBytes() + 128, TensorMemory.peakBytes());
+  }
+
+  @Test
+  public void report() {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (Tensor<Float> t = Tensors.create(new float[] {1.0f})) {
+      TensorMemory.report(new PrintStream(out));
+    }
+    assertTrue(out.toString().contains("FLOAT: "));
+  }
+}
@@ -29,10 +29,17 @@ import java.nio.DoubleBuffer;
 import java.nio.FloatBuffer;
 import java.nio.IntBuffer;
 import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
+import java.util.List;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
+import org.tensorflow.types.Int16;
+import org.tensorflow.types.Int8;
+import org.tensorflow.types.UInt16;
+import org.tensorflow.types.UInt32;
+import org.tensorflow.types.UInt64;
 import org.tensorflow.types.UInt8;
 
 /** Unit tests for {@link org.tensorflow.Tensor}. */
@@ -416,6 +423,52 @@ public class TensorTest {
     }
   }
 
+  @Test
+  public void testStringTensorFromContiguousBytes() {
+    byte[] data = "thisisamatrix".getBytes(UTF_8);
+    int[] offsets = new int[] {0, 4, 6, 7, 13};
+    try (Tensor<String> t = Tensor.create(new long[] {2, 2}, data, offsets)) {
+      assertEquals(DataType.STRING, t.dataType());
+      assertArrayEquals(new long[] {2, 2}, t.shape());
+
+      byte[][][] got = t.copyTo(new byte[2][2][]);
+      assertArrayEquals("is".getBytes(UTF_8), got[0][1]);
+      assertArrayEquals("matrix".getBytes(UTF_8), got[1][1]);
+
+      StringTensorBuffer strings = t.stringBuffer();
+      assertEquals(4, strings.size());
+      assertEquals(1, strings.length(2));
+      assertEquals("this", strings.getString(0, UTF_8));
+      assertEquals(data.length, strings.totalLength());
+
+      byte[] gotData = new byte[data.length];
+      int[] gotOffsets = new int[offsets.length];
+      assertEquals(data.length, strings.read(gotData, gotOffsets));
+      assertArrayEquals(data, gotData);
+      assertArrayEquals(offsets, gotOffsets);
+    }
+    try (Tensor<String> t = Tensors.create(new byte[][] {new byte[0], new byte[300]})) {
+      StringTensorBuffer strings = t.stringBuffer();
+      assertEquals(0, strings.length(0));
+      assertEquals(300, strings.get(1).length);
+    }
+  }
+
+  @Test
+  public void failCreateStringTensorOnInvalidOffsets() {
+    byte[] data = new byte[4];
+    try (Tensor<String> t = Tensor.create(new long[] {2}, data, new int[] {0, 4})) {
+      fail("should have failed on missing offsets");
+    } catch (IllegalArgumentException e) {
+      // The expected exception.
+    }
+    try (Tensor<String> t = Tensor.create(new long[] {2}, data, new int[] {0, 3, 5})) {
+      fail("should have failed on offsets out of range");
+    } catch (IllegalArgumentException e) {
+      // The expected exception.
+    }
+  }
+
   @Test
   public void testUInt8Tensor() {
     byte[] vector = new byte[] {1, 2, 3, 4};
@@ -429,6 +482,60 @@ public class TensorTest {
     }
   }
 
+  @Test
+  public void testNarrowIntegerTensors() {
+    byte[] bytes = new byte[] {-1, 2, -3, 4};
+    try (Tensor<Int8> t = Tensor.create(bytes, Int8.class)) {
+      assertEquals(DataType.INT8, t.dataType());
+      assertArrayEquals(new long[] {4}, t.shape());
+      assertArrayEquals(bytes, t.copyTo(new byte[4]));
+    }
+    short[][] shorts = new short[][] {{1, -2}, {3, -4}};
+    try (Tensor<?> t = Tensor.create(shorts)) {
+      assertEquals(DataType.INT16, t.dataType());
+      assertArrayEquals(new long[] {2, 2}, t.shape());
+      short[][] got = t.copyTo(new short[2][2]);
+      assertArrayEquals(shorts[1], got[1]);
+    }
+    try (Tensor<Int16> t = Tensor.create((short) 7, Int16.class)) {
+      assertEquals(DataType.INT16, t.dataType());
+      assertEquals(7, t.shortValue());
+    }
+    try (Tensor<Int16> t = Tensor.create(new long[] {3}, ShortBuffer.wrap(new short[] {5, 6, 7}))) {
+      ShortBuffer got = ShortBuffer.allocate(3);
+      t.writeTo(got);
+      assertEquals(6, got.get(1));
+    }
+    assertEquals(DataType.INT8, DataType.fromClass(Int8.class));
+    assertEquals(DataType.INT16, DataType.fromClass(Int16.class));
+    try {
+      // byte arrays map to STRING by default, Byte does not designate INT8 tensors
+      DataType.fromClass(Byte.class);
+      fail("Byte.class should not be a tensor type");
+    } catch (IllegalArgumentException e) {
+      // expected exception
+    }
+  }
+
+  @Test
+  public void testUnsignedIntegerTensors() {
+    short[] shorts = new short[] {1, (short) 0xFFFF};
+    try (Tensor<UInt16> t = Tensor.create(shorts, UInt16.class)) {
+      assertEquals(DataType.UINT16, t.dataType());
+      assertArrayEquals(shorts, t.copyTo(new short[2]));
+    }
+    int[] ints = new int[] {1, 0xFFFFFFFF};
+    try (Tensor<UInt32> t = Tensor.create(ints, UInt32.class)) {
+      assertEquals(DataType.UINT32, t.dataType());
+      assertArrayEquals(ints, t.copyTo(new int[2]));
+    }
+    long[] longs = new long[] {1L, -1L};
+    try (Tensor<UInt64> t = Tensor.create(longs, UInt64.class)) {
+      assertEquals(DataType.UINT64, t.dataType());
+      assertArrayEquals(longs, t.copyTo(new long[2]));
+    }
+  }
+
   @Test
   public void testCreateFromArrayOfBoxed() {
     Integer[] vector = new Integer[] {1, 2, 3, 4};
@@ -510,6 +617,70 @@ public class TensorTest {
     }
   }
 
+  @Test
+  public void readDataRepeatedly() {
+    Tensor<Integer> t = Tensors.create(new int[] {1, 2, 3});
+    assertEquals(12, t.numBytes());
+    for (int i = 0; i < 2; ++i) {
+      IntBuffer dst = IntBuffer.allocate(3);
+      t.writeTo(dst);
+      assertEquals(3, dst.get(2));
+    }
+    t.close();
+    try {
+      t.writeTo(IntBuffer.allocate(3));
+      fail("should not read data from a closed tensor");
+    } catch (NullPointerException e) {
+      // The expected exception.
+    }
+  }
+
+  @Test
+  public void createBatch() {
+    ByteBuffer bools = ByteBuffer.wrap(new byte[] {1, 0});
+    List<Tensor<?>> tensors =
+        Tensors.batchCreate()
+            .add(new long[] {2, 2}, FloatBuffer.wrap(new float[] {1, 2, 3, 4}))
+            .add(new long[] {3}, LongBuffer.wrap(new long[] {5, 6, 7}))
+            .add(new long[0], IntBuffer.wrap(new int[] {8}))
+            .add(Boolean.class, new long[] {2}, bools)
+            .build();
+    try {
+      assertEquals(4, tensors.size());
+      assertEquals(DataType.FLOAT, tensors.get(0).dataType());
+      assertArrayEquals(new long[] {2, 2}, tensors.get(0).shape());
+      float[][] floats = tensors.get(0).expect(Float.class).copyTo(new float[2][2]);
+      assertEquals(4.0f, floats[1][1], EPSILON_F);
+      assertEquals(DataType.INT64, tensors.get(1).dataType());
+      assertArrayEquals(
+          new long[] {5, 6, 7}, tensors.get(1).expect(Long.class).copyTo(new long[3]));
+      assertEquals(8, tensors.get(2).intValue());
+      assertArrayEquals(
+          new boolean[] {true, false}, tensors.get(3).expect(Boolean.class).copyTo(new boolean[2]));
+      assertEquals(0, bools.remaining());
+    } finally {
+      for (Tensor<?> t : tensors) {
+        t.close();
+      }
+    }
+  }
+
+  @Test
+  public void failCreateBatchOnIncompatibleShape() {
+    long liveTensors = TensorMemory.liveTensors();
+    Tensors.BatchBuilder builder =
+        Tensors.batchCreate()
+            .add(new long[] {2}, IntBuffer.wrap(new int[] {1, 2}))
+            .add(new long[] {2}, IntBuffer.wrap(new int[] {1, 2, 3}));
+    try {
+      builder.build();
+      fail("should fail on a buffer that does not match the shape of the tensor");
+    } catch (IllegalArgumentException e) {
+      // The expected exception.
+    }
+    assertEquals(liveTensors, TensorMemory.liveTensors());
+  }
+
   @Test
   public void useAfterClose() {
     int n = 4;
@@ -545,18 +716,18 @@ public class TensorTest {
   public void fromHandle() {
     // fromHandle is a package-visible method intended for use when the C TF_Tensor object has been
     // created independently of the Java code. In practice, two Tensor instances MUST NOT have the
-    // same native handle.
-    //
-    // An exception is made for this test, where the pitfalls of this is avoided by not calling
-    // close() on both Tensors.
+    // same native handle, so the ownership of the handle is transferred from one to the other.
     final float[][] matrix = {{1, 2, 3}, {4, 5, 6}};
-    try (Tensor<Float> src = Tensors.create(matrix)) {
-      Tensor<Float> cpy = Tensor.fromHandle(src.getNativeHandle()).expect(Float.class);
-      assertEquals(src.dataType(), cpy.dataType());
-      assertEquals(src.numDimensions(), cpy.numDimensions());
-      assertArrayEquals(src.shape(), cpy.shape());
+    Tensor<Float> src = Tensors.create(matrix);
+    try (Tensor<Float> cpy = Tensor.fromHandle(src.detachNativeHandle()).expect(Float.class)) {
+      assertEquals(0, src.getNativeHandle());
+      assertEquals(DataType.FLOAT, cpy.dataType());
+      assertEquals(2, cpy.numDimensions());
+      assertArrayEquals(new long[] {2, 3}, cpy.shape());
       assertArrayEquals(matrix, cpy.copyTo(new float[2][3]));
     }
+    // src no longer owns the native tensor, closing it has no effect
+    src.close();
   }
 
   @Test
@@ -30,6 +30,8 @@ import org.tensorflow.Output;
 import org.tensorflow.Session;
 import org.tensorflow.Tensor;
 import org.tensorflow.Tensors;
+import org.tensorflow.op.core.Constant;
+import org.tensorflow.op.core.Identity;
 import org.tensorflow.types.UInt8;
 
 /** Unit tests for {@link org.tensorflow.Scope}. */
@@ -183,6 +185,25 @@ public class ScopeTest {
     }
   }
 
+  @Test
+  public void devices() {
+    try (Graph g = new Graph()) {
+      Scope root = new Scope(g);
+      assertEquals("", root.device());
+      Scope cpu1 = root.withSubScope("child").withDevice("/cpu:1");
+      assertEquals("/cpu:1", cpu1.withName("c").device());
+
+      Constant.create(root.withName("c0"), 0);
+      Constant.create(cpu1.withName("c1"), 1);
+      assertEquals("", g.operation("c0").device());
+      assertEquals("/cpu:1", g.operation("child/c1").device());
+
+      // Generated operation classes apply the device of their scope as well
+      Identity.create(cpu1.withName("i1"), Constant.create(root, 2));
+      assertEquals("/cpu:1", g.operation("child/i1").device());
+    }
+  }
+
   // "handwritten" sample operator classes
   private static final class Const<T> {
     private final Output<T> output;
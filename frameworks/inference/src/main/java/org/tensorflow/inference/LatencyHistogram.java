@@ -0,0 +1,109 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.inference;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A histogram of latencies, with buckets of exponentially growing width.
+ *
+ * <p>Latencies are counted in microseconds, in buckets whose upper bound doubles from one to the
+ * next: [0, 1], [2, 3], [4, 7], [8, 15], etc. Percentiles are therefore approximated to within a
+ * factor of two, which is enough to tell where the time goes in a pipeline, at the cost of a few
+ * atomic increments per latency recorded.
+ *
+ * <p>Instances of this class are thread-safe.
+ */
+public final class LatencyHistogram {
+
+  /** Records a latency. */
+  public void record(long duration, TimeUnit unit) {
+    long micros = Math.max(unit.toMicros(duration), 0);
+    int bucket = Math.min(64 - Long.numberOfLeadingZeros(micros >>> 1), NUM_BUCKETS - 1);
+    buckets.incrementAndGet(bucket);
+    count.incrementAndGet();
+    totalMicros.addAndGet(micros);
+    long max;
+    while ((max = maxMicros.get()) < micros && !maxMicros.compareAndSet(max, micros)) {
+      // retry until the maximum is at least this latency
+    }
+  }
+
+  /** Returns the number of latencies recorded. */
+  public long count() {
+    return count.get();
+  }
+
+  /** Returns the mean of the latencies recorded, in microseconds, or 0 if there are none. */
+  public double meanMicros() {
+    long n = count.get();
+    return n == 0 ? 0.0 : (double) totalMicros.get() / n;
+  }
+
+  /** Returns the highest latency recorded, in microseconds, or 0 if there are none. */
+  public long maxMicros() {
+    return maxMicros.get();
+  }
+
+  /**
+   * Returns an upper bound of the given percentile of the latencies recorded, in microseconds.
+   *
+   * <p>This is the upper bound of the bucket holding the percentile, capped by {@link
+   * #maxMicros()}.
+   *
+   * @param percentile percentile to compute, between 0 and 100
+   * @return the percentile, or 0 if no latency has been recorded
+   */
+  public long percentileMicros(double percentile) {
+    if (percentile < 0.0 || percentile > 100.0) {
+      throw new IllegalArgumentException("Percentile must be between 0 and 100, got " + percentile);
+    }
+    long total = 0;
+    long[] counts = new long[NUM_BUCKETS];
+    for (int i = 0; i < NUM_BUCKETS; ++i) {
+      counts[i] = buckets.get(i);
+      total += counts[i];
+    }
+    if (total == 0) {
+      return 0;
+    }
+    long rank = Math.max((long) Math.ceil(percentile / 100.0 * total), 1);
+    long seen = 0;
+    int bucket = 0;
+    while ((seen += counts[bucket]) < rank) {
+      ++bucket;
+    }
+    long upperBound = bucket == NUM_BUCKETS - 1 ? Long.MAX_VALUE : (2L << bucket) - 1;
+    return Math.min(upperBound, maxMicros.get());
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "count=%d mean=%.1fus p50=%dus p99=%dus max=%dus",
+        count(), meanMicros(), percentileMicros(50), percentileMicros(99), maxMicros());
+  }
+
+  private static final int NUM_BUCKETS = 48;
+
+  private final AtomicLongArray buckets = new AtomicLongArray(NUM_BUCKETS);
+  private final AtomicLong count = new AtomicLong();
+  private final AtomicLong totalMicros = new AtomicLong();
+  private final AtomicLong maxMicros = new AtomicLong();
+}
@@ -0,0 +1,462 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.inference;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * A sequence of processing stages, executed concurrently on different requests.
+ *
+ * <p>Each stage has its own threads, which take requests from a bounded queue, process them and
+ * pass the result to the queue of the next stage. While a request is executed by a session, the
+ * next requests can then be decoded and preprocessed, and the previous ones postprocessed, instead
+ * of each request going through all steps before the next one starts. For example:
+ *
+ * <pre>{@code
+ * try (Pipeline<byte[], Label> pipeline = Pipeline.<byte[]>builder()
+ *     .stage("decode", 2, 16, Image::decode)
+ *     .stage("preprocess", 4, 16, Preprocessor::toTensor)
+ *     .stage("run", 2, 8, x -> pool.run(s -> s.runner().feed("x", x).fetch("y").run().get(0)))
+ *     .stage("postprocess", 2, 16, Labels::top1)
+ *     .build()) {
+ *   CompletableFuture<Label> label = pipeline.submit(request);
+ *   ...
+ * }
+ * }</pre>
+ *
+ * <p>When a stage falls behind, its queue fills up and the stage before it blocks, up to {@link
+ * #submit(Object)} which then blocks the caller: the pipeline never holds more requests than its
+ * queues and threads can. Use {@link #trySubmit(Object, long, TimeUnit)} to reject requests
+ * instead.
+ *
+ * <p>The time each request spends waiting in the queue of a stage and being processed by it are
+ * recorded in histograms, see {@link #stages()}.
+ *
+ * <p>Instances of this class are thread-safe.
+ *
+ * @param <I> type of the requests
+ * @param <O> type of the results
+ */
+public final class Pipeline<I, O> implements AutoCloseable {
+
+  /**
+   * Builder of a {@link Pipeline}.
+   *
+   * @param <I> type of the requests
+   * @param <T> type of the values returned by the last stage added
+   */
+  public static final class Builder<I, T> {
+
+    /**
+     * Adds a stage to the pipeline.
+     *
+     * @param name name of the stage, used in its statistics and in the names of its threads
+     * @param threads number of threads processing values in this stage
+     * @param queueCapacity maximum number of values waiting to be processed by this stage
+     * @param function processing of this stage, applied to the value returned by the previous
+     *     stage, or to the request for the first stage
+     */
+    @SuppressWarnings("unchecked")
+    public <R> Builder<I, R> stage(
+        String name, int threads, int queueCapacity, Function<? super T, ? extends R> function) {
+      if (threads <= 0) {
+        throw new IllegalArgumentException("Number of threads must be positive, got " + threads);
+      }
+      if (queueCapacity <= 0) {
+        throw new IllegalArgumentException("Queue capacity must be positive, got " + queueCapacity);
+      }
+      stages.add(new Stage(name, threads, queueCapacity, (Function<Object, Object>) function));
+      return (Builder<I, R>) this;
+    }
+
+    /**
+     * Creates the pipeline and starts the threads of all its stages.
+     *
+     * <p>The builder is not usable after build() returns.
+     *
+     * @throws IllegalStateException if no stage has been added
+     */
+    public Pipeline<I, T> build() {
+      if (stages.isEmpty()) {
+        throw new IllegalStateException("A pipeline must have at least one stage");
+      }
+      Pipeline<I, T> pipeline = new Pipeline<>(stages);
+      stages.clear();
+      return pipeline;
+    }
+
+    private final List<Stage> stages = new ArrayList<>();
+
+    private Builder() {}
+  }
+
+  /** A stage of a pipeline, and the statistics of the requests it has processed. */
+  public static final class Stage {
+
+    /** Returns the name of the stage. */
+    public String name() {
+      return name;
+    }
+
+    /** Returns the number of threads processing values in this stage. */
+    public int threads() {
+      return workers.size();
+    }
+
+    /** Returns the number of values currently waiting to be processed by this stage. */
+    public int queueSize() {
+      return queue.size();
+    }
+
+    /** Returns the maximum number of values waiting to be processed by this stage. */
+    public int queueCapacity() {
+      return queueCapacity;
+    }
+
+    /** Returns the time spent by values in the queue of this stage. */
+    public LatencyHistogram waitLatency() {
+      return waitLatency;
+    }
+
+    /** Returns the time spent by this stage to process values. */
+    public LatencyHistogram processLatency() {
+      return processLatency;
+    }
+
+    @Override
+    public String toString() {
+      return name + ": wait " + waitLatency + ", process " + processLatency;
+    }
+
+    private final String name;
+    private final int queueCapacity;
+    private final Function<Object, Object> function;
+    private final BlockingQueue<Item> queue;
+    private final List<Thread> workers = new ArrayList<>();
+    private final LatencyHistogram waitLatency = new LatencyHistogram();
+    private final LatencyHistogram processLatency = new LatencyHistogram();
+    private final AtomicInteger running = new AtomicInteger();
+    private final CountDownLatch stopped = new CountDownLatch(1);
+    private volatile Throwable failure;
+    private Pipeline<?, ?> pipeline;
+    private Stage next;
+
+    private Stage(String name, int threads, int queueCapacity, Function<Object, Object> function) {
+      this.name = name;
+      this.queueCapacity = queueCapacity;
+      this.function = function;
+      queue = new ArrayBlockingQueue<>(queueCapacity);
+      for (int i = 0; i < threads; ++i) {
+        Thread worker = new Thread(this::work, "pipeline-" + name + "-" + i);
+        worker.setDaemon(true);
+        workers.add(worker);
+      }
+    }
+
+    private void work() {
+      boolean stopping = false;
+      Throwable error = null;
+      try {
+        while (true) {
+          Item item = queue.take();
+          if (item == STOP) {
+            // Leave the marker in the queue for the other threads of this stage
+            queue.offer(STOP);
+            stopping = true;
+            break;
+          }
+          long start = System.nanoTime();
+          waitLatency.record(start - item.enqueued, TimeUnit.NANOSECONDS);
+          Object value;
+          try {
+            value = function.apply(item.value);
+          } catch (Throwable t) {
+            item.result.completeExceptionally(t);
+            continue;
+          } finally {
+            processLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+          }
+          if (next == null) {
+            item.result.complete(value);
+          } else {
+            item.value = value;
+            try {
+              next.enqueue(item);
+            } catch (InterruptedException e) {
+              // The value cannot be passed to the next stage anymore, fail its request
+              item.result.completeExceptionally(e);
+              throw e;
+            }
+          }
+        }
+      } catch (InterruptedException e) {
+        error = e;
+        Thread.currentThread().interrupt();
+      } finally {
+        // The last thread to stop has passed all its values to the next stage, which can be
+        // stopped in turn
+        if (running.decrementAndGet() == 0) {
+          if (!stopping) {
+            // Nothing will process the values queued for this stage anymore
+            pipeline.abort(this, error);
+          }
+          if (next != null) {
+            next.stop();
+          }
+          stopped.countDown();
+        }
+      }
+    }
+
+    private void enqueue(Item item) throws InterruptedException {
+      item.enqueued = System.nanoTime();
+      queue.put(item);
+      rejectIfFailed(item);
+    }
+
+    private boolean enqueue(Item item, long timeout, TimeUnit unit) throws InterruptedException {
+      item.enqueued = System.nanoTime();
+      if (!queue.offer(item, timeout, unit)) {
+        return false;
+      }
+      rejectIfFailed(item);
+      return true;
+    }
+
+    private void rejectIfFailed(Item item) {
+      Throwable cause = failure;
+      if (cause != null && queue.remove(item)) {
+        item.result.completeExceptionally(cause);
+      }
+    }
+
+    /** Fails all values queued for this stage, and those enqueued from now on. */
+    private void reject(Throwable cause) {
+      failure = cause;
+      for (Item item : queue) {
+        // Removing values one by one also wakes up the threads waiting for room in the queue
+        if (item != STOP && queue.remove(item)) {
+          item.result.completeExceptionally(cause);
+        }
+      }
+    }
+
+    private void start() {
+      running.set(workers.size());
+      for (Thread worker : workers) {
+        worker.start();
+      }
+    }
+
+    private void stop() {
+      boolean interrupted = false;
+      while (true) {
+        try {
+          queue.put(STOP);
+          break;
+        } catch (InterruptedException e) {
+          interrupted = true;
+        }
+      }
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  /**
+   * Returns a builder of a pipeline processing requests of the given type.
+   *
+   * @param <I> type of the requests
+   */
+  public static <I> Builder<I, I> builder() {
+    return new Builder<>();
+  }
+
+  /**
+   * Submits a request to the pipeline, waiting for room in the queue of the first stage if
+   * needed.
+   *
+   * @param request request to process
+   * @return the result of the last stage for this request, or the exception thrown by the stage
+   *     that failed to process it
+   * @throws IllegalStateException if the pipeline has been closed
+   * @throws InterruptedException if the current thread is interrupted while waiting
+   */
+  public CompletableFuture<O> submit(I request) throws InterruptedException {
+    Item item = new Item(request);
+    lock.readLock().lock();
+    try {
+      checkOpen();
+      first().enqueue(item);
+    } finally {
+      lock.readLock().unlock();
+    }
+    return result(item);
+  }
+
+  /**
+   * Submits a request to the pipeline, unless the queue of the first stage remains full for the
+   * given time.
+   *
+   * @param request request to process
+   * @param timeout maximum time to wait for room in the queue
+   * @param unit unit of {@code timeout}
+   * @return the result of the last stage for this request, or null if the request has been
+   *     rejected
+   * @throws IllegalStateException if the pipeline has been closed
+   * @throws InterruptedException if the current thread is interrupted while waiting
+   */
+  public CompletableFuture<O> trySubmit(I request, long timeout, TimeUnit unit)
+      throws InterruptedException {
+    Item item = new Item(request);
+    lock.readLock().lock();
+    try {
+      checkOpen();
+      if (!first().enqueue(item, timeout, unit)) {
+        return null;
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+    return result(item);
+  }
+
+  /** Returns the stages of this pipeline, in order. */
+  public List<Stage> stages() {
+    return stages;
+  }
+
+  /** Returns the number of requests submitted to this pipeline and not yet completed. */
+  public int pending() {
+    return pending.get();
+  }
+
+  /**
+   * Stops the pipeline, once all requests submitted have been processed.
+   *
+   * <p>Requests cannot be submitted anymore after this method is called. If the current thread is
+   * interrupted while waiting, the requests in progress still complete in the background.
+   *
+   * <p>A pipeline is also closed when all threads of one of its stages have stopped unexpectedly,
+   * for example after being interrupted. The requests waiting for this stage or any stage before it
+   * then complete with an {@link IllegalStateException}.
+   */
+  @Override
+  public void close() {
+    shutdown();
+    try {
+      stages.get(stages.size() - 1).stopped.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static final class Item {
+    Object value;
+    final CompletableFuture<Object> result = new CompletableFuture<>();
+    long enqueued;
+
+    Item(Object value) {
+      this.value = value;
+    }
+  }
+
+  // Marks the end of the values of a stage
+  private static final Item STOP = new Item(null);
+
+  private final List<Stage> stages;
+  private final AtomicInteger pending = new AtomicInteger();
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private volatile boolean closed = false;
+  private boolean stopping = false;
+
+  private Pipeline(List<Stage> stages) {
+    this.stages = Collections.unmodifiableList(new ArrayList<>(stages));
+    for (int i = 0; i < stages.size() - 1; ++i) {
+      stages.get(i).next = stages.get(i + 1);
+    }
+    for (Stage stage : stages) {
+      stage.pipeline = this;
+    }
+    for (Stage stage : stages) {
+      stage.start();
+    }
+  }
+
+  private Stage first() {
+    return stages.get(0);
+  }
+
+  /**
+   * Closes the pipeline after all threads of a stage have stopped without being asked to.
+   *
+   * <p>The requests waiting for this stage or any stage before it fail, as well as those that
+   * reach it later, while the stages after it process the values they already have.
+   */
+  private void abort(Stage failed, Throwable error) {
+    closed = true;
+    IllegalStateException cause =
+        new IllegalStateException("All threads of stage " + failed.name + " have stopped", error);
+    for (Stage stage : stages) {
+      stage.reject(cause);
+      if (stage == failed) {
+        break;
+      }
+    }
+    // Submitters waiting for room in the first queue are now released, as it rejects everything
+    shutdown();
+  }
+
+  // Prevents new requests from being submitted and stops the first stage, without waiting
+  private void shutdown() {
+    lock.writeLock().lock();
+    try {
+      closed = true;
+      if (!stopping) {
+        stopping = true;
+        first().stop();
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private void checkOpen() {
+    if (closed) {
+      throw new IllegalStateException("Requests cannot be submitted to a closed pipeline");
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private CompletableFuture<O> result(Item item) {
+    pending.incrementAndGet();
+    item.result.whenComplete((value, error) -> pending.decrementAndGet());
+    return (CompletableFuture<O>) item.result;
+  }
+}
@@ -0,0 +1,269 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.inference;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import org.tensorflow.Graph;
+import org.tensorflow.Session;
+import org.tensorflow.SessionConfig;
+
+/**
+ * A pool of sessions executing the same graph, among which requests are distributed.
+ *
+ * <p>A single session, with its default thread pools, does not scale well on hosts with many cores.
+ * A pool shards the requests over several sessions instead, each of them having its own thread
+ * pools, sized with {@link Builder#threadsPerSession(int, int)} or with a custom configuration
+ * per session. For example:
+ *
+ * <pre>{@code
+ * try (SessionPool pool = SessionPool.builder(graph)
+ *     .size(4)
+ *     .threadsPerSession(12, 2)
+ *     .routing(SessionPool.Routing.LEAST_LOADED)
+ *     .build()) {
+ *   List<Tensor<?>> outputs = pool.run(s -> s.runner().feed("x", x).fetch("y").run());
+ *   ...
+ * }
+ * }</pre>
+ *
+ * <p>Threads of a session cannot be pinned to a set of cores from Java. To keep each pool on a
+ * single socket, run one process per socket under a NUMA policy (e.g. with {@code numactl}) and
+ * size its pool for the cores of that socket.
+ *
+ * <p>The pool does not own the graph, which must remain open until the pool is closed. Instances
+ * of this class are thread-safe.
+ */
+public final class SessionPool implements AutoCloseable {
+
+  /** Strategy used to select the session executing a request. */
+  public enum Routing {
+    /** Selects each session in turn. */
+    ROUND_ROBIN,
+    /** Selects the session with the fewest requests in progress. */
+    LEAST_LOADED
+  }
+
+  /** Builder of a {@link SessionPool}. */
+  public static final class Builder {
+
+    /** Sets the number of sessions in the pool, 1 by default. */
+    public Builder size(int size) {
+      if (size <= 0) {
+        throw new IllegalArgumentException("Pool size must be positive, got " + size);
+      }
+      this.size = size;
+      return this;
+    }
+
+    /**
+     * Gives each session its own thread pools, of the given sizes.
+     *
+     * <p>By default, sessions use the thread pools of the process, sized by TensorFlow for all
+     * cores of the host.
+     *
+     * @param intraOpThreads number of threads used to parallelize the execution of an operation
+     * @param interOpThreads number of threads used to execute independent operations
+     */
+    public Builder threadsPerSession(int intraOpThreads, int interOpThreads) {
+      byte[] config =
+          SessionConfig.create()
+              .intraOpParallelismThreads(intraOpThreads)
+              .interOpParallelismThreads(interOpThreads)
+              .usePerSessionThreads(true)
+              .toByteArray();
+      return config(i -> config);
+    }
+
+    /**
+     * Sets the configuration of each session.
+     *
+     * <p>This overrides {@link #threadsPerSession(int, int)}.
+     *
+     * @param config returns the serialized <a
+     *     href="https://www.tensorflow.org/code/tensorflow/core/protobuf/config.proto">ConfigProto</a>
+     *     of the session at the given index in the pool, or null for the default configuration
+     */
+    public Builder config(IntFunction<byte[]> config) {
+      this.config = config;
+      return this;
+    }
+
+    /** Sets the strategy used to route requests to sessions, round-robin by default. */
+    public Builder routing(Routing routing) {
+      this.routing = routing;
+      return this;
+    }
+
+    /**
+     * Creates the sessions of the pool.
+     *
+     * @throws IllegalArgumentException if the configuration of a session is invalid
+     */
+    public SessionPool build() {
+      return new SessionPool(this);
+    }
+
+    private final Graph graph;
+    private int size = 1;
+    private IntFunction<byte[]> config = i -> null;
+    private Routing routing = Routing.ROUND_ROBIN;
+
+    private Builder(Graph graph) {
+      this.graph = graph;
+    }
+  }
+
+  /**
+   * A session of the pool selected for a request, which counts in its queue depth until the lease
+   * is closed.
+   *
+   * <p>Sessions are thread-safe, so a leased session can be selected for other requests as well.
+   */
+  public final class Lease implements AutoCloseable {
+
+    /** Returns the session leased. */
+    public Session session() {
+      return sessions[index];
+    }
+
+    /** Returns the index of the session leased in the pool. */
+    public int index() {
+      return index;
+    }
+
+    /** Returns the session to the pool. */
+    @Override
+    public void close() {
+      if (!closed) {
+        closed = true;
+        inFlight.decrementAndGet(index);
+      }
+    }
+
+    private final int index;
+    private boolean closed = false;
+
+    private Lease(int index) {
+      this.index = index;
+    }
+  }
+
+  /**
+   * Returns a builder of a pool executing the given graph.
+   *
+   * @param graph graph executed by all sessions of the pool
+   */
+  public static Builder builder(Graph graph) {
+    return new Builder(graph);
+  }
+
+  /**
+   * Selects a session for a request.
+   *
+   * <p>The session selected is accounted as busy until the lease is closed.
+   */
+  public Lease acquire() {
+    int index = select();
+    inFlight.incrementAndGet(index);
+    return new Lease(index);
+  }
+
+  /**
+   * Executes a request on one of the sessions of the pool.
+   *
+   * @param request function running the session
+   * @return the value returned by {@code request}
+   */
+  public <T> T run(Function<Session, T> request) {
+    try (Lease lease = acquire()) {
+      return request.apply(lease.session());
+    }
+  }
+
+  /** Returns the number of sessions in the pool. */
+  public int size() {
+    return sessions.length;
+  }
+
+  /**
+   * Returns the number of requests currently in progress on a session.
+   *
+   * @param index index of the session in the pool
+   */
+  public int queueDepth(int index) {
+    return inFlight.get(index);
+  }
+
+  /** Returns the number of requests currently in progress on each session. */
+  public int[] queueDepths() {
+    int[] depths = new int[sessions.length];
+    for (int i = 0; i < depths.length; ++i) {
+      depths[i] = inFlight.get(i);
+    }
+    return depths;
+  }
+
+  /** Closes all sessions, waiting for the requests in progress to complete. */
+  @Override
+  public void close() {
+    for (Session session : sessions) {
+      session.close();
+    }
+  }
+
+  private final Session[] sessions;
+  private final Routing routing;
+  private final AtomicIntegerArray inFlight;
+  private final AtomicInteger next = new AtomicInteger();
+
+  private SessionPool(Builder builder) {
+    sessions = new Session[builder.size];
+    try {
+      for (int i = 0; i < sessions.length; ++i) {
+        sessions[i] = new Session(builder.graph, builder.config.apply(i));
+      }
+    } catch (RuntimeException e) {
+      for (Session session : sessions) {
+        if (session != null) {
+          session.close();
+        }
+      }
+      throw e;
+    }
+    routing = builder.routing;
+    inFlight = new AtomicIntegerArray(sessions.length);
+  }
+
+  private int select() {
+    if (routing == Routing.LEAST_LOADED) {
+      // Start the search at a rotating index, so ties are not always won by the first session
+      int start = Math.floorMod(next.getAndIncrement(), sessions.length);
+      int best = start;
+      for (int i = 1; i < sessions.length; ++i) {
+        int index = (start + i) % sessions.length;
+        if (inFlight.get(index) < inFlight.get(best)) {
+          best = index;
+        }
+      }
+      return best;
+    }
+    return Math.floorMod(next.getAndIncrement(), sessions.length);
+  }
+}
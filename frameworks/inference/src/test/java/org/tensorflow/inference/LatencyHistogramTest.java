@@ -0,0 +1,50 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.inference;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+
+  @Test
+  public void emptyHistogram() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    assertEquals(0, histogram.count());
+    assertEquals(0.0, histogram.meanMicros(), 0.0);
+    assertEquals(0, histogram.percentileMicros(99));
+  }
+
+  @Test
+  public void computePercentiles() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    for (int i = 0; i < 90; ++i) {
+      histogram.record(5, TimeUnit.MICROSECONDS);
+    }
+    for (int i = 0; i < 10; ++i) {
+      histogram.record(1, TimeUnit.MILLISECONDS);
+    }
+    assertEquals(100, histogram.count());
+    assertEquals(104.5, histogram.meanMicros(), 0.0);
+    assertEquals(1000, histogram.maxMicros());
+    assertEquals(7, histogram.percentileMicros(50)); // upper bound of [4, 7]
+    assertEquals(7, histogram.percentileMicros(90));
+    assertEquals(1000, histogram.percentileMicros(99)); // capped by the maximum
+  }
+}
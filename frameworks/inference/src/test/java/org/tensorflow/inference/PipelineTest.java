@@ -0,0 +1,247 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.inference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Test;
+
+public class PipelineTest {
+
+  @Test
+  public void processAllStages() throws Exception {
+    List<CompletableFuture<String>> results = new ArrayList<>();
+    try (Pipeline<Integer, String> pipeline =
+        Pipeline.<Integer>builder()
+            .stage("double", 2, 4, x -> 2 * x)
+            .stage("increment", 1, 4, x -> x + 1)
+            .stage("format", 3, 4, x -> "#" + x)
+            .build()) {
+      assertEquals(3, pipeline.stages().size());
+      assertEquals("increment", pipeline.stages().get(1).name());
+      for (int i = 0; i < 20; ++i) {
+        results.add(pipeline.submit(i));
+      }
+    }
+    for (int i = 0; i < 20; ++i) {
+      assertTrue(results.get(i).isDone());
+      assertEquals("#" + (2 * i + 1), results.get(i).get());
+    }
+  }
+
+  @Test
+  public void recordLatencies() throws Exception {
+    try (Pipeline<Integer, Integer> pipeline =
+        Pipeline.<Integer>builder().stage("identity", 1, 1, x -> x).build()) {
+      for (int i = 0; i < 5; ++i) {
+        pipeline.submit(i).get();
+      }
+      Pipeline.Stage stage = pipeline.stages().get(0);
+      assertEquals(5, stage.waitLatency().count());
+      assertEquals(5, stage.processLatency().count());
+      assertEquals(0, pipeline.pending());
+    }
+  }
+
+  @Test
+  public void failRequestOnStageException() throws Exception {
+    IllegalArgumentException error = new IllegalArgumentException();
+    try (Pipeline<Integer, Integer> pipeline =
+        Pipeline.<Integer>builder()
+            .stage("check", 1, 1, x -> {
+              if (x < 0) {
+                throw error;
+              }
+              return x;
+            })
+            .stage("negate", 1, 1, x -> -x)
+            .build()) {
+      try {
+        pipeline.submit(-1).get();
+        fail();
+      } catch (ExecutionException e) {
+        assertSame(error, e.getCause());
+      }
+      assertEquals(-1, pipeline.submit(1).get().intValue());
+    }
+  }
+
+  @Test
+  public void rejectWhenFull() throws Exception {
+    CountDownLatch blocked = new CountDownLatch(1);
+    try (Pipeline<Integer, Integer> pipeline =
+        Pipeline.<Integer>builder()
+            .stage("block", 1, 1, x -> {
+              try {
+                blocked.await();
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+              return x;
+            })
+            .build()) {
+      CompletableFuture<Integer> processed = pipeline.submit(1);
+      CompletableFuture<Integer> queued = null;
+      // The first request may not have been taken from the queue yet
+      while (queued == null) {
+        queued = pipeline.trySubmit(2, 10, TimeUnit.MILLISECONDS);
+      }
+      assertNull(pipeline.trySubmit(3, 10, TimeUnit.MILLISECONDS));
+      assertEquals(2, pipeline.pending());
+      blocked.countDown();
+      assertEquals(1, processed.get().intValue());
+      assertEquals(2, queued.get().intValue());
+    }
+  }
+
+  @Test
+  public void failRequestOnInterruptedWorker() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch blocked = new CountDownLatch(1);
+    AtomicReference<Thread> worker = new AtomicReference<>();
+    try (Pipeline<Integer, Integer> pipeline =
+        Pipeline.<Integer>builder()
+            .stage("first", 1, 1, x -> {
+              worker.set(Thread.currentThread());
+              return x;
+            })
+            .stage("second", 1, 1, x -> {
+              started.countDown();
+              try {
+                blocked.await();
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+              return x;
+            })
+            .build()) {
+      CompletableFuture<Integer> processed = pipeline.submit(1);
+      started.await();
+      CompletableFuture<Integer> queued = pipeline.submit(2);
+      while (pipeline.stages().get(1).queueSize() == 0) {
+        Thread.sleep(1);
+      }
+      // The queue of the second stage is full, the first stage blocks while passing this request
+      CompletableFuture<Integer> interrupted = pipeline.submit(3);
+      while (!queued.isDone() && (worker.get() == null
+          || worker.get().getState() != Thread.State.WAITING
+          || pipeline.stages().get(0).queueSize() != 0)) {
+        Thread.sleep(1);
+      }
+      worker.get().interrupt();
+      try {
+        interrupted.get(10, TimeUnit.SECONDS);
+        fail();
+      } catch (ExecutionException e) {
+        assertTrue(e.getCause() instanceof InterruptedException);
+      }
+      blocked.countDown();
+      assertEquals(1, processed.get().intValue());
+      assertEquals(2, queued.get().intValue());
+    }
+  }
+
+  @Test
+  public void closeWhenAllThreadsOfStageStop() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    AtomicReference<Thread> worker = new AtomicReference<>();
+    try (Pipeline<Integer, Integer> pipeline =
+        Pipeline.<Integer>builder()
+            .stage("first", 1, 1, x -> x)
+            .stage("second", 1, 1, x -> {
+              worker.set(Thread.currentThread());
+              started.countDown();
+              try {
+                new CountDownLatch(1).await();
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+              return x;
+            })
+            .build()) {
+      CompletableFuture<Integer> processed = pipeline.submit(1);
+      started.await();
+      List<CompletableFuture<Integer>> failed = new ArrayList<>();
+      failed.add(pipeline.submit(2));
+      while (pipeline.stages().get(1).queueSize() == 0) {
+        Thread.sleep(1);
+      }
+      // The first stage blocks while passing this request, then the next one fills its queue
+      failed.add(pipeline.submit(3));
+      while (pipeline.stages().get(0).queueSize() != 0) {
+        Thread.sleep(1);
+      }
+      failed.add(pipeline.submit(4));
+      AtomicReference<CompletableFuture<Integer>> blocked = new AtomicReference<>();
+      Thread submitter = new Thread(() -> {
+        try {
+          blocked.set(pipeline.submit(5));
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      });
+      submitter.start();
+      while (submitter.getState() != Thread.State.WAITING) {
+        Thread.sleep(1);
+      }
+
+      // The only thread of the second stage exits once its current request is processed
+      worker.get().interrupt();
+      assertEquals(1, processed.get().intValue());
+      submitter.join();
+      failed.add(blocked.get());
+      for (CompletableFuture<Integer> result : failed) {
+        try {
+          result.get(10, TimeUnit.SECONDS);
+          fail();
+        } catch (ExecutionException e) {
+          assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+      }
+      try {
+        pipeline.submit(6);
+        fail();
+      } catch (IllegalStateException e) {
+        // expected exception
+      }
+    }
+  }
+
+  @Test
+  public void failSubmitAfterClose() throws Exception {
+    Pipeline<Integer, Integer> pipeline =
+        Pipeline.<Integer>builder().stage("identity", 1, 1, x -> x).build();
+    pipeline.close();
+    try {
+      pipeline.submit(1);
+      fail();
+    } catch (IllegalStateException e) {
+      // expected exception
+    }
+  }
+}
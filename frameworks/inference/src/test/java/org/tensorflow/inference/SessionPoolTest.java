@@ -0,0 +1,92 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.inference;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import org.junit.Test;
+import org.tensorflow.DataType;
+import org.tensorflow.Graph;
+import org.tensorflow.GraphOperation;
+import org.tensorflow.Output;
+import org.tensorflow.Tensor;
+import org.tensorflow.Tensors;
+
+public class SessionPoolTest {
+
+  @Test
+  public void runOnAllSessions() {
+    try (Graph g = doubleGraph();
+        SessionPool pool = SessionPool.builder(g).size(3).threadsPerSession(1, 1).build()) {
+      assertEquals(3, pool.size());
+      for (int i = 0; i < 6; ++i) {
+        try (Tensor<Integer> x = Tensors.create(i);
+            Tensor<?> y = pool.run(s -> s.runner().feed("x", x).fetch("y").run().get(0))) {
+          assertEquals(2 * i, y.intValue());
+        }
+      }
+      assertArrayEquals(new int[3], pool.queueDepths());
+    }
+  }
+
+  @Test
+  public void roundRobin() {
+    try (Graph g = doubleGraph();
+        SessionPool pool = SessionPool.builder(g).size(2).build()) {
+      try (SessionPool.Lease first = pool.acquire();
+          SessionPool.Lease second = pool.acquire()) {
+        assertNotEquals(first.index(), second.index());
+        assertEquals(1, pool.queueDepth(first.index()));
+        assertEquals(1, pool.queueDepth(second.index()));
+      }
+      assertArrayEquals(new int[2], pool.queueDepths());
+    }
+  }
+
+  @Test
+  public void leastLoaded() {
+    try (Graph g = doubleGraph();
+        SessionPool pool =
+            SessionPool.builder(g).size(3).routing(SessionPool.Routing.LEAST_LOADED).build()) {
+      try (SessionPool.Lease a = pool.acquire();
+          SessionPool.Lease b = pool.acquire()) {
+        SessionPool.Lease c = pool.acquire();
+        c.close();
+        // The session released is now the only idle one
+        try (SessionPool.Lease d = pool.acquire()) {
+          assertEquals(c.index(), d.index());
+        }
+      }
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void failOnInvalidSize() {
+    try (Graph g = new Graph()) {
+      SessionPool.builder(g).size(0);
+    }
+  }
+
+  private static Graph doubleGraph() {
+    Graph g = new Graph();
+    GraphOperation x = g.opBuilder("Placeholder", "x").setAttr("dtype", DataType.INT32).build();
+    g.opBuilder("AddN", "y").addInputList(new Output<?>[] {x.output(0), x.output(0)}).build();
+    return g;
+  }
+}
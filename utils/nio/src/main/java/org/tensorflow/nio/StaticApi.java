@@ -7,6 +7,7 @@ import org.tensorflow.nio.buffer.DoubleDataBuffer;
 import org.tensorflow.nio.buffer.FloatDataBuffer;
 import org.tensorflow.nio.buffer.IntDataBuffer;
 import org.tensorflow.nio.buffer.LongDataBuffer;
+import org.tensorflow.nio.buffer.ShortDataBuffer;
 import org.tensorflow.nio.nd.ByteNdArray;
 import org.tensorflow.nio.nd.DoubleNdArray;
 import org.tensorflow.nio.nd.FloatNdArray;
@@ -14,7 +15,9 @@ import org.tensorflow.nio.nd.IntNdArray;
 import org.tensorflow.nio.nd.LongNdArray;
 import org.tensorflow.nio.nd.NdArray;
 import org.tensorflow.nio.nd.NdArrays;
+import org.tensorflow.nio.nd.RaggedNdArray;
 import org.tensorflow.nio.nd.Shape;
+import org.tensorflow.nio.nd.ShortNdArray;
 import org.tensorflow.nio.nd.index.Index;
 import org.tensorflow.nio.nd.index.Indices;
 
@@ -36,6 +39,14 @@ public interface StaticApi {
     return DataBuffers.wrap(array, readOnly);
   }
 
+  static ShortDataBuffer bufferOfShorts(long capacity) {
+    return DataBuffers.ofShorts(capacity);
+  }
+
+  static ShortDataBuffer bufferOf(short[] array, boolean readOnly) {
+    return DataBuffers.wrap(array, readOnly);
+  }
+
   static IntDataBuffer bufferOfInts(long capacity) {
     return DataBuffers.ofIntegers(capacity);
   }
@@ -60,6 +71,14 @@ public interface StaticApi {
     return DataBuffers.wrap(array, readOnly);
   }
   
+  static FloatDataBuffer bufferOfHalfs(long capacity) {
+    return DataBuffers.ofHalfs(capacity);
+  }
+
+  static FloatDataBuffer bufferOfBFloat16s(long capacity) {
+    return DataBuffers.ofBFloat16s(capacity);
+  }
+
   static DoubleDataBuffer bufferOfDoubles(long capacity) {
     return DataBuffers.ofDoubles(capacity);
   }
@@ -80,6 +99,10 @@ public interface StaticApi {
     return NdArrays.wrap(buffer, shape);
   } 
 
+  static <T> RaggedNdArray<T> ndArrayOf(DataBuffer<T> values, LongDataBuffer rowSplits, Shape shape) {
+    return NdArrays.wrap(values, rowSplits, shape);
+  }
+
   static ByteNdArray ndArrayOfBytes(Shape shape) {
     return NdArrays.ofBytes(shape);
   }
@@ -92,6 +115,18 @@ public interface StaticApi {
     return NdArrays.wrap(buffer, shape);
   }
 
+  static ShortNdArray ndArrayOfShorts(Shape shape) {
+    return NdArrays.ofShorts(shape);
+  }
+
+  static ShortNdArray ndArrayOf(short[] values, Shape shape) {
+    return NdArrays.wrap(values, shape);
+  }
+
+  static ShortNdArray ndArrayOf(ShortDataBuffer buffer, Shape shape) {
+    return NdArrays.wrap(buffer, shape);
+  }
+
   static IntNdArray ndArrayOfInts(Shape shape) {
     return NdArrays.ofIntegers(shape);
   }
@@ -128,6 +163,14 @@ public interface StaticApi {
     return NdArrays.wrap(buffer, shape);
   }
 
+  static FloatNdArray ndArrayOfHalfs(Shape shape) {
+    return NdArrays.ofHalfs(shape);
+  }
+
+  static FloatNdArray ndArrayOfBFloat16s(Shape shape) {
+    return NdArrays.ofBFloat16s(shape);
+  }
+
   static DoubleNdArray ndArrayOfDoubles(Shape shape) {
     return NdArrays.ofDoubles(shape);
   }
@@ -18,6 +18,7 @@ package org.tensorflow.nio.buffer;
 
 import java.nio.BufferOverflowException;
 import java.nio.BufferUnderflowException;
+import java.nio.ByteOrder;
 import java.nio.ReadOnlyBufferException;
 
 import org.tensorflow.nio.buffer.impl.ByteDataBufferWindow;
@@ -101,6 +102,64 @@ public interface ByteDataBuffer extends DataBuffer<Byte> {
    */
   ByteDataBuffer put(byte[] src, int offset, int length);
 
+  /**
+   * Creates a view of the remaining bytes of this buffer as a buffer of floats.
+   * <p>
+   * The content of the new buffer starts at this buffer's current position and is shared with this buffer, so changes
+   * to this buffer's content will be visible in the new buffer, and vice versa. The capacity and limit of the new buffer
+   * are equal to the number of bytes remaining in this buffer divided by four, and its position is zero. The position
+   * and limit of both buffers are independent.
+   * 
+   * @param order byte order used to decode and encode the floats
+   * @return a buffer of floats sharing the content of this buffer
+   * @throws IllegalStateException if floats cannot be mapped to the underlying storage of this buffer without copying
+   */
+  FloatDataBuffer asFloats(ByteOrder order);
+
+  /**
+   * Creates a view of the remaining bytes of this buffer as a buffer of shorts.
+   * <p>
+   * Same as {@link #asFloats(ByteOrder)} but with values of two bytes.
+   * 
+   * @param order byte order used to decode and encode the shorts
+   * @return a buffer of shorts sharing the content of this buffer
+   * @throws IllegalStateException if shorts cannot be mapped to the underlying storage of this buffer without copying
+   */
+  ShortDataBuffer asShorts(ByteOrder order);
+
+  /**
+   * Creates a view of the remaining bytes of this buffer as a buffer of doubles.
+   * <p>
+   * Same as {@link #asFloats(ByteOrder)} but with values of eight bytes.
+   * 
+   * @param order byte order used to decode and encode the doubles
+   * @return a buffer of doubles sharing the content of this buffer
+   * @throws IllegalStateException if doubles cannot be mapped to the underlying storage of this buffer without copying
+   */
+  DoubleDataBuffer asDoubles(ByteOrder order);
+
+  /**
+   * Creates a view of the remaining bytes of this buffer as a buffer of integers.
+   * <p>
+   * Same as {@link #asFloats(ByteOrder)} but with values of four bytes.
+   * 
+   * @param order byte order used to decode and encode the integers
+   * @return a buffer of integers sharing the content of this buffer
+   * @throws IllegalStateException if integers cannot be mapped to the underlying storage of this buffer without copying
+   */
+  IntDataBuffer asInts(ByteOrder order);
+
+  /**
+   * Creates a view of the remaining bytes of this buffer as a buffer of longs.
+   * <p>
+   * Same as {@link #asFloats(ByteOrder)} but with values of eight bytes.
+   * 
+   * @param order byte order used to decode and encode the longs
+   * @return a buffer of longs sharing the content of this buffer
+   * @throws IllegalStateException if longs cannot be mapped to the underlying storage of this buffer without copying
+   */
+  LongDataBuffer asLongs(ByteOrder order);
+
   @Override
   ByteDataBuffer limit(long newLimit);
 
@@ -21,19 +21,24 @@ import java.nio.DoubleBuffer;
 import java.nio.FloatBuffer;
 import java.nio.IntBuffer;
 import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
 
 import org.tensorflow.nio.buffer.impl.single.ArrayDataBuffer;
+import org.tensorflow.nio.buffer.impl.single.BFloat16JdkDataBuffer;
 import org.tensorflow.nio.buffer.impl.single.ByteJdkDataBuffer;
 import org.tensorflow.nio.buffer.impl.single.DoubleJdkDataBuffer;
 import org.tensorflow.nio.buffer.impl.single.FloatJdkDataBuffer;
+import org.tensorflow.nio.buffer.impl.single.HalfJdkDataBuffer;
 import org.tensorflow.nio.buffer.impl.single.IntJdkDataBuffer;
 import org.tensorflow.nio.buffer.impl.single.LongJdkDataBuffer;
+import org.tensorflow.nio.buffer.impl.single.ShortJdkDataBuffer;
 import org.tensorflow.nio.buffer.impl.large.ByteLargeDataBuffer;
 import org.tensorflow.nio.buffer.impl.large.DoubleLargeDataBuffer;
 import org.tensorflow.nio.buffer.impl.large.FloatLargeDataBuffer;
 import org.tensorflow.nio.buffer.impl.large.IntLargeDataBuffer;
 import org.tensorflow.nio.buffer.impl.large.LargeDataBuffer;
 import org.tensorflow.nio.buffer.impl.large.LongLargeDataBuffer;
+import org.tensorflow.nio.buffer.impl.large.ShortLargeDataBuffer;
 
 /**
  * Helper class for creating `DataBuffer` instances.
@@ -145,6 +150,41 @@ public final class DataBuffers {
     return IntJdkDataBuffer.wrap(buf);
   }
 
+  /**
+   * Creates a buffer of shorts that can store up to `capacity` values
+   *
+   * @param capacity capacity of the buffer to allocate
+   * @return a new buffer
+   */
+  public static ShortDataBuffer ofShorts(long capacity) {
+    if (capacity > ShortJdkDataBuffer.MAX_CAPACITY) {
+      return ShortLargeDataBuffer.allocate(capacity);
+    }
+    return ShortJdkDataBuffer.allocate(capacity);
+  }
+
+  /**
+   * Wraps an array of shorts into a data buffer.
+   *
+   * @param array array to wrap
+   * @param readOnly true if the buffer created must be read-only
+   * @return a new buffer
+   */
+  public static ShortDataBuffer wrap(short[] array, boolean readOnly) {
+    ShortBuffer buf = ShortBuffer.wrap(array);
+    return ShortJdkDataBuffer.wrap(readOnly ? buf.asReadOnlyBuffer() : buf);
+  }
+
+  /**
+   * Wraps a JDK short buffer into a data buffer.
+   *
+   * @param buf buffer to wrap
+   * @return a new buffer
+   */
+  public static ShortDataBuffer wrap(ShortBuffer buf) {
+    return ShortJdkDataBuffer.wrap(buf);
+  }
+
   /**
    * Creates a buffer of doubles that can store up to `capacity` values
    *
@@ -215,6 +255,72 @@ public final class DataBuffers {
     return FloatJdkDataBuffer.wrap(buf);
   }
 
+  /**
+   * Creates a buffer of floats stored in half-precision that can store up to `capacity` values
+   *
+   * @param capacity capacity of the buffer to allocate
+   * @return a new buffer
+   * @see HalfFloats
+   */
+  public static FloatDataBuffer ofHalfs(long capacity) {
+    return HalfJdkDataBuffer.allocate(capacity);
+  }
+
+  /**
+   * Wraps an array of half-precision bits into a buffer of floats.
+   *
+   * @param array array to wrap
+   * @param readOnly true if the buffer created must be read-only
+   * @return a new buffer
+   */
+  public static FloatDataBuffer wrapHalfs(short[] array, boolean readOnly) {
+    ShortBuffer buf = ShortBuffer.wrap(array);
+    return HalfJdkDataBuffer.wrap(readOnly ? buf.asReadOnlyBuffer() : buf);
+  }
+
+  /**
+   * Wraps a JDK buffer of half-precision bits into a buffer of floats.
+   *
+   * @param buf buffer to wrap
+   * @return a new buffer
+   */
+  public static FloatDataBuffer wrapHalfs(ShortBuffer buf) {
+    return HalfJdkDataBuffer.wrap(buf);
+  }
+
+  /**
+   * Creates a buffer of floats stored in bfloat16 that can store up to `capacity` values
+   *
+   * @param capacity capacity of the buffer to allocate
+   * @return a new buffer
+   * @see HalfFloats
+   */
+  public static FloatDataBuffer ofBFloat16s(long capacity) {
+    return BFloat16JdkDataBuffer.allocate(capacity);
+  }
+
+  /**
+   * Wraps an array of bfloat16 bits into a buffer of floats.
+   *
+   * @param array array to wrap
+   * @param readOnly true if the buffer created must be read-only
+   * @return a new buffer
+   */
+  public static FloatDataBuffer wrapBFloat16s(short[] array, boolean readOnly) {
+    ShortBuffer buf = ShortBuffer.wrap(array);
+    return BFloat16JdkDataBuffer.wrap(readOnly ? buf.asReadOnlyBuffer() : buf);
+  }
+
+  /**
+   * Wraps a JDK buffer of bfloat16 bits into a buffer of floats.
+   *
+   * @param buf buffer to wrap
+   * @return a new buffer
+   */
+  public static FloatDataBuffer wrapBFloat16s(ShortBuffer buf) {
+    return BFloat16JdkDataBuffer.wrap(buf);
+  }
+
   /**
    * Creates a buffer of objects of type `clazz` that can store up to `capacity` values
    *
@@ -0,0 +1,190 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer;
+
+/**
+ * Conversion routines between 32-bit floats and 16-bit floating point formats.
+ * <p>
+ * Two 16-bit formats are supported, both stored as {@code short} bits:
+ * <ul>
+ *   <li><i>half</i>, the IEEE 754 binary16 format, with 5 bits of exponent and 10 bits of mantissa</li>
+ *   <li><i>bfloat16</i>, the "brain floating point" format, which is the 16 upper bits of a 32-bit float, i.e. 8 bits of
+ *   exponent and 7 bits of mantissa</li>
+ * </ul>
+ * Conversions from floats round to the nearest value, ties to even, and preserve infinities and NaNs.
+ */
+public final class HalfFloats {
+
+  /**
+   * Converts half bits to a float.
+   *
+   * @param half bits of a half-precision value
+   * @return float value
+   */
+  public static float halfToFloat(short half) {
+    int bits = half & 0xFFFF;
+    int sign = (bits & 0x8000) << 16;
+    int exponent = bits & 0x7C00;
+    int mantissa = bits & 0x03FF;
+    if (exponent == 0x7C00) {
+      return Float.intBitsToFloat(sign | 0x7F800000 | (mantissa << 13));  // infinity or NaN
+    }
+    if (exponent == 0) {
+      float value = mantissa * 0x1p-24f;  // zero or subnormal
+      return sign == 0 ? value : -value;
+    }
+    return Float.intBitsToFloat(sign | ((bits & 0x7FFF) + 0x1C000) << 13);
+  }
+
+  /**
+   * Converts a float to half bits.
+   *
+   * @param value float value
+   * @return bits of the nearest half-precision value
+   */
+  public static short floatToHalf(float value) {
+    int bits = Float.floatToRawIntBits(value);
+    int sign = (bits >>> 16) & 0x8000;
+    int abs = bits & 0x7FFFFFFF;
+    if (abs >= 0x47800000) {  // 65536 or more, infinity or NaN
+      if (abs > 0x7F800000) {
+        return (short)(sign | 0x7E00 | ((abs >>> 13) & 0x03FF));
+      }
+      return (short)(sign | 0x7C00);
+    }
+    if (abs < 0x38800000) {  // below the smallest normal half, 2^-14
+      if (abs < 0x33000000) {  // rounds to zero, 2^-25 or less
+        return (short)sign;
+      }
+      int shift = 126 - (abs >>> 23);
+      int mantissa = (abs & 0x007FFFFF) | 0x00800000;
+      int half = mantissa >>> shift;
+      int remainder = mantissa & ((1 << shift) - 1);
+      int halfway = 1 << (shift - 1);
+      if (remainder > halfway || (remainder == halfway && (half & 1) != 0)) {
+        ++half;
+      }
+      return (short)(sign | half);
+    }
+    int half = (abs - 0x38000000) >>> 13;
+    int remainder = abs & 0x1FFF;
+    if (remainder > 0x1000 || (remainder == 0x1000 && (half & 1) != 0)) {
+      ++half;  // may carry up to infinity, as expected
+    }
+    return (short)(sign | half);
+  }
+
+  /**
+   * Converts bfloat16 bits to a float.
+   *
+   * @param bfloat16 bits of a bfloat16 value
+   * @return float value
+   */
+  public static float bfloat16ToFloat(short bfloat16) {
+    return Float.intBitsToFloat(bfloat16 << 16);
+  }
+
+  /**
+   * Converts a float to bfloat16 bits.
+   *
+   * @param value float value
+   * @return bits of the nearest bfloat16 value
+   */
+  public static short floatToBFloat16(float value) {
+    int bits = Float.floatToRawIntBits(value);
+    if ((bits & 0x7FFFFFFF) > 0x7F800000) {
+      return (short)((bits >>> 16) | 0x0040);  // keep NaNs quiet after truncation
+    }
+    return (short)((bits + 0x7FFF + ((bits >>> 16) & 1)) >>> 16);
+  }
+
+  /**
+   * Converts an array of half bits to floats.
+   *
+   * @param src source half bits
+   * @param srcOffset index of the first value to convert in {@code src}
+   * @param dst destination floats
+   * @param dstOffset index of the first float to write in {@code dst}
+   * @param length number of values to convert
+   * @throws IndexOutOfBoundsException if the offsets and length go beyond the limits of the arrays
+   */
+  public static void halfToFloat(short[] src, int srcOffset, float[] dst, int dstOffset, int length) {
+    checkBounds(src.length, srcOffset, dst.length, dstOffset, length);
+    for (int i = 0; i < length; ++i) {
+      dst[dstOffset + i] = halfToFloat(src[srcOffset + i]);
+    }
+  }
+
+  /**
+   * Converts an array of floats to half bits.
+   *
+   * @param src source floats
+   * @param srcOffset index of the first float to convert in {@code src}
+   * @param dst destination half bits
+   * @param dstOffset index of the first value to write in {@code dst}
+   * @param length number of values to convert
+   * @throws IndexOutOfBoundsException if the offsets and length go beyond the limits of the arrays
+   */
+  public static void floatToHalf(float[] src, int srcOffset, short[] dst, int dstOffset, int length) {
+    checkBounds(src.length, srcOffset, dst.length, dstOffset, length);
+    for (int i = 0; i < length; ++i) {
+      dst[dstOffset + i] = floatToHalf(src[srcOffset + i]);
+    }
+  }
+
+  /**
+   * Converts an array of bfloat16 bits to floats.
+   *
+   * @param src source bfloat16 bits
+   * @param srcOffset index of the first value to convert in {@code src}
+   * @param dst destination floats
+   * @param dstOffset index of the first float to write in {@code dst}
+   * @param length number of values to convert
+   * @throws IndexOutOfBoundsException if the offsets and length go beyond the limits of the arrays
+   */
+  public static void bfloat16ToFloat(short[] src, int srcOffset, float[] dst, int dstOffset, int length) {
+    checkBounds(src.length, srcOffset, dst.length, dstOffset, length);
+    for (int i = 0; i < length; ++i) {
+      dst[dstOffset + i] = bfloat16ToFloat(src[srcOffset + i]);
+    }
+  }
+
+  /**
+   * Converts an array of floats to bfloat16 bits.
+   *
+   * @param src source floats
+   * @param srcOffset index of the first float to convert in {@code src}
+   * @param dst destination bfloat16 bits
+   * @param dstOffset index of the first value to write in {@code dst}
+   * @param length number of values to convert
+   * @throws IndexOutOfBoundsException if the offsets and length go beyond the limits of the arrays
+   */
+  public static void floatToBFloat16(float[] src, int srcOffset, short[] dst, int dstOffset, int length) {
+    checkBounds(src.length, srcOffset, dst.length, dstOffset, length);
+    for (int i = 0; i < length; ++i) {
+      dst[dstOffset + i] = floatToBFloat16(src[srcOffset + i]);
+    }
+  }
+
+  private static void checkBounds(int srcLength, int srcOffset, int dstLength, int dstOffset, int length) {
+    if (srcOffset < 0 || dstOffset < 0 || length < 0 || srcOffset > srcLength - length || dstOffset > dstLength - length) {
+      throw new IndexOutOfBoundsException();
+    }
+  }
+
+  private HalfFloats() {}
+}
@@ -16,7 +16,14 @@
  */
 package org.tensorflow.nio.buffer.impl;
 
+import java.nio.ByteOrder;
+
 import org.tensorflow.nio.buffer.ByteDataBuffer;
+import org.tensorflow.nio.buffer.DoubleDataBuffer;
+import org.tensorflow.nio.buffer.FloatDataBuffer;
+import org.tensorflow.nio.buffer.IntDataBuffer;
+import org.tensorflow.nio.buffer.LongDataBuffer;
+import org.tensorflow.nio.buffer.ShortDataBuffer;
 
 public class ByteDataBufferWindow extends DataBufferWindow<Byte, ByteDataBuffer> implements ByteDataBuffer {
 
@@ -32,6 +39,31 @@ public class ByteDataBufferWindow extends DataBufferWindow<Byte, ByteDataBuffer>
         return delegate.put(src, offset, length);
     }
 
+    @Override
+    public FloatDataBuffer asFloats(ByteOrder order) {
+        return delegate.asFloats(order);
+    }
+
+    @Override
+    public ShortDataBuffer asShorts(ByteOrder order) {
+        return delegate.asShorts(order);
+    }
+
+    @Override
+    public DoubleDataBuffer asDoubles(ByteOrder order) {
+        return delegate.asDoubles(order);
+    }
+
+    @Override
+    public IntDataBuffer asInts(ByteOrder order) {
+        return delegate.asInts(order);
+    }
+
+    @Override
+    public LongDataBuffer asLongs(ByteOrder order) {
+        return delegate.asLongs(order);
+    }
+
     @Override
     public ByteDataBuffer duplicate() {
         return new ByteDataBufferWindow(delegate.duplicate(), start, end);
@@ -39,6 +71,6 @@ public class ByteDataBufferWindow extends DataBufferWindow<Byte, ByteDataBuffer>
 
     @Override
     public ByteDataBuffer slice() {
-        return new ByteDataBufferWindow(delegate.duplicate(), position(), limit());
+        return new ByteDataBufferWindow(delegate.duplicate(), delegate.position(), delegate.limit());
     }
 }
@@ -39,7 +39,9 @@ public class DataBufferWindow<T, B extends DataBuffer<T>> implements DataBuffer<
 
     @Override
     public B limit(long newLimit) {
-        return (B)delegate.limit(newLimit + start);
+        Validator.newLimit(this, newLimit);
+        delegate.limit(newLimit + start);
+        return (B)this;
     }
 
     @Override
@@ -61,7 +63,9 @@ public class DataBufferWindow<T, B extends DataBuffer<T>> implements DataBuffer<
 
     @Override
     public B position(long newPosition) {
-        return (B)delegate.position(newPosition + start);
+        Validator.newPosition(this, newPosition);
+        delegate.position(newPosition + start);
+        return (B)this;
     }
 
     @Override
@@ -71,7 +75,8 @@ public class DataBufferWindow<T, B extends DataBuffer<T>> implements DataBuffer<
 
     @Override
     public B rewind() {
-        return (B)delegate.position(start);
+        delegate.position(start);
+        return (B)this;
     }
 
     @Override public boolean isReadOnly() {
@@ -93,17 +98,20 @@ public class DataBufferWindow<T, B extends DataBuffer<T>> implements DataBuffer<
 
     @Override
     public B put(T value) {
-        return (B)delegate.put(value);
+        delegate.put(value);
+        return (B)this;
     }
 
     @Override
     public B put(long index, T value) {
-        return (B)delegate.put(index + start, value);
+        delegate.put(index + start, value);
+        return (B)this;
     }
 
     @Override
     public B put(DataBuffer<T> src) {
-        return (B)delegate.put(src);
+        delegate.put(src);
+        return (B)this;
     }
 
     @Override
@@ -113,7 +121,7 @@ public class DataBufferWindow<T, B extends DataBuffer<T>> implements DataBuffer<
 
     @Override
     public DataBuffer<T> slice() {
-        return new DataBufferWindow(delegate.duplicate(), position(), limit());
+        return new DataBufferWindow(delegate.duplicate(), delegate.position(), delegate.limit());
     }
 
     protected final B delegate;
@@ -47,6 +47,6 @@ public class DoubleDataBufferWindow extends DataBufferWindow<Double, DoubleDataB
 
     @Override
     public DoubleDataBuffer slice() {
-        return new DoubleDataBufferWindow(delegate.duplicate(), position(), limit());
+        return new DoubleDataBufferWindow(delegate.duplicate(), delegate.position(), delegate.limit());
     }
 }
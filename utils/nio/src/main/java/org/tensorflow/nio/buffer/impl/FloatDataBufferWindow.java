@@ -39,6 +39,6 @@ public class FloatDataBufferWindow extends DataBufferWindow<Float, FloatDataBuff
 
     @Override
     public FloatDataBuffer slice() {
-        return new FloatDataBufferWindow(delegate.duplicate(), position(), limit());
+        return new FloatDataBufferWindow(delegate.duplicate(), delegate.position(), delegate.limit());
     }
 }
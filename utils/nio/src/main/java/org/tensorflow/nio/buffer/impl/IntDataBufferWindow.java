@@ -46,6 +46,6 @@ public class IntDataBufferWindow extends DataBufferWindow<Integer, IntDataBuffer
 
     @Override
     public IntDataBuffer slice() {
-        return new IntDataBufferWindow(delegate.duplicate(), position(), limit());
+        return new IntDataBufferWindow(delegate.duplicate(), delegate.position(), delegate.limit());
     }
 }
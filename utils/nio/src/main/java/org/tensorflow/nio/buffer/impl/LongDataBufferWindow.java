@@ -46,6 +46,6 @@ public class LongDataBufferWindow extends DataBufferWindow<Long, LongDataBuffer>
 
     @Override
     public LongDataBuffer slice() {
-        return new LongDataBufferWindow(delegate.duplicate(), position(), limit());
+        return new LongDataBufferWindow(delegate.duplicate(), delegate.position(), delegate.limit());
     }
 }
@@ -16,18 +16,31 @@
  */
 package org.tensorflow.nio.buffer.impl.large;
 
+import java.nio.ByteOrder;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
 import org.tensorflow.nio.buffer.ByteDataBuffer;
+import org.tensorflow.nio.buffer.DataBuffer;
+import org.tensorflow.nio.buffer.DoubleDataBuffer;
+import org.tensorflow.nio.buffer.FloatDataBuffer;
+import org.tensorflow.nio.buffer.IntDataBuffer;
+import org.tensorflow.nio.buffer.LongDataBuffer;
+import org.tensorflow.nio.buffer.ShortDataBuffer;
 import org.tensorflow.nio.buffer.impl.single.ByteJdkDataBuffer;
 
 public final class ByteLargeDataBuffer extends AbstractLargeDataBuffer<Byte, ByteDataBuffer> implements ByteDataBuffer {
   
   public static long MAX_CAPACITY = ByteJdkDataBuffer.MAX_CAPACITY * ByteJdkDataBuffer.MAX_CAPACITY;
 
+  // Sub buffers capacity is kept a multiple of the largest value size, so they can be viewed as buffers of other types
+  private static final long ALIGNED_BUFFER_CAPACITY = ByteJdkDataBuffer.MAX_CAPACITY - (ByteJdkDataBuffer.MAX_CAPACITY % Long.BYTES);
+
   public static ByteDataBuffer allocate(long capacity) {
     if (capacity > MAX_CAPACITY) {
       throw new IllegalArgumentException("Capacity for a joined data buffer cannot exceeds " + MAX_CAPACITY + " bytes");
     }
-    ByteDataBuffer[] buffers = allocateBuffers(ByteDataBuffer.class, capacity, ByteJdkDataBuffer.MAX_CAPACITY, ByteJdkDataBuffer::allocate);
+    ByteDataBuffer[] buffers = allocateBuffers(ByteDataBuffer.class, capacity, ALIGNED_BUFFER_CAPACITY, ByteJdkDataBuffer::allocate);
     return new ByteLargeDataBuffer(buffers, false);
   }
 
@@ -50,11 +63,63 @@ public final class ByteLargeDataBuffer extends AbstractLargeDataBuffer<Byte, Byt
     return this;
   }
 
+  @Override
+  public FloatDataBuffer asFloats(ByteOrder order) {
+    return view(Float.BYTES, b -> b.asFloats(order), FloatDataBuffer[]::new, FloatLargeDataBuffer::join);
+  }
+
+  @Override
+  public ShortDataBuffer asShorts(ByteOrder order) {
+    return view(Short.BYTES, b -> b.asShorts(order), ShortDataBuffer[]::new, ShortLargeDataBuffer::join);
+  }
+
+  @Override
+  public DoubleDataBuffer asDoubles(ByteOrder order) {
+    return view(Double.BYTES, b -> b.asDoubles(order), DoubleDataBuffer[]::new, DoubleLargeDataBuffer::join);
+  }
+
+  @Override
+  public IntDataBuffer asInts(ByteOrder order) {
+    return view(Integer.BYTES, b -> b.asInts(order), IntDataBuffer[]::new, IntLargeDataBuffer::join);
+  }
+
+  @Override
+  public LongDataBuffer asLongs(ByteOrder order) {
+    return view(Long.BYTES, b -> b.asLongs(order), LongDataBuffer[]::new, LongLargeDataBuffer::join);
+  }
+
   @Override
   protected ByteLargeDataBuffer instantiate(ByteDataBuffer[] buffers, boolean readOnly, long capacity, long limit, int currentBufferIndex) {
     return new ByteLargeDataBuffer(buffers, readOnly, capacity, limit, currentBufferIndex);
   }
 
+  @SuppressWarnings("unchecked")
+  private <V extends DataBuffer<?>> V view(int valueSize, Function<ByteDataBuffer, V> bufferView,
+      IntFunction<V[]> viewArray, Function<V[], V> join) {
+    long bufferCapacity = buffer(0).capacity();
+    int firstBufferIndex = (int)Math.min(position() / bufferCapacity, nbBuffers() - 1);
+    int lastBufferIndex = (int)Math.max((limit() - 1) / bufferCapacity, firstBufferIndex);
+    if (firstBufferIndex == lastBufferIndex) {
+      long offset = firstBufferIndex * bufferCapacity;
+      return bufferView.apply(buffer(firstBufferIndex).duplicate().limit(limit() - offset).position(position() - offset));
+    }
+    if (bufferCapacity % valueSize != 0 || position() % valueSize != 0) {
+      throw new IllegalStateException("Values of " + valueSize + " bytes are not aligned with the sub buffers of this buffer");
+    }
+    V[] views = viewArray.apply(lastBufferIndex - firstBufferIndex + 1);
+    for (int i = 0; i < views.length; ++i) {
+      ByteDataBuffer buffer = buffer(firstBufferIndex + i).duplicate();
+      views[i] = bufferView.apply(buffer.limit(buffer.capacity()).rewind());
+    }
+    V view = join.apply(views);
+    long viewPosition = position() / valueSize - firstBufferIndex * (bufferCapacity / valueSize);
+    long viewLimit = limit() / valueSize - firstBufferIndex * (bufferCapacity / valueSize);
+    if (viewPosition == 0 && viewLimit == view.capacity()) {
+      return view;
+    }
+    return (V)view.limit(viewLimit).position(viewPosition).slice();
+  }
+
   private ByteLargeDataBuffer(ByteDataBuffer[] buffers, boolean readOnly) {
     super(buffers, readOnly);
   }
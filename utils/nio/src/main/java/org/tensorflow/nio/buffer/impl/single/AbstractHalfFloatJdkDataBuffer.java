@@ -0,0 +1,141 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer.impl.single;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ShortBuffer;
+import java.util.stream.Stream;
+
+import org.tensorflow.nio.buffer.DataBuffer;
+import org.tensorflow.nio.buffer.FloatDataBuffer;
+
+/**
+ * Base class for buffers of floats using a JDK {@link ShortBuffer} to store values in a 16-bit format.
+ * <p>
+ * Values are converted to and from floats on the fly. Bulk transfers with float arrays convert directly from or to
+ * the array backing the buffer, when available.
+ */
+abstract class AbstractHalfFloatJdkDataBuffer extends AbstractJdkDataBuffer<Float, FloatDataBuffer> implements FloatDataBuffer {
+
+  @Override
+  public Float get() {
+    return toFloat(buf.get());
+  }
+
+  @Override
+  public Float get(long index) {
+    return toFloat(buf.get((int)index));
+  }
+
+  @Override
+  public FloatDataBuffer get(float[] dst, int offset, int length) {
+    if (length > buf.remaining()) {
+      throw new BufferUnderflowException();
+    }
+    if (buf.hasArray()) {
+      int position = buf.position();
+      toFloats(buf.array(), buf.arrayOffset() + position, dst, offset, length);
+      buf.position(position + length);
+    } else {
+      if (offset < 0 || length < 0 || offset > dst.length - length) {
+        throw new IndexOutOfBoundsException();
+      }
+      for (int i = offset; i < offset + length; ++i) {
+        dst[i] = toFloat(buf.get());
+      }
+    }
+    return this;
+  }
+
+  @Override
+  public Stream<Float> stream() {
+    throw new UnsupportedOperationException("FloatDataBuffer does not support value streaming at the moment");
+  }
+
+  @Override
+  public FloatDataBuffer put(Float value) {
+    buf.put(fromFloat(value));
+    return this;
+  }
+
+  @Override
+  public FloatDataBuffer put(long index, Float value) {
+    buf.put((int)index, fromFloat(value));
+    return this;
+  }
+
+  @Override
+  public FloatDataBuffer put(float[] src, int offset, int length) {
+    if (length > buf.remaining()) {
+      throw new BufferOverflowException();
+    }
+    if (buf.hasArray()) {
+      int position = buf.position();
+      fromFloats(src, offset, buf.array(), buf.arrayOffset() + position, length);
+      buf.position(position + length);
+    } else {
+      if (offset < 0 || length < 0 || offset > src.length - length) {
+        throw new IndexOutOfBoundsException();
+      }
+      for (int i = offset; i < offset + length; ++i) {
+        buf.put(fromFloat(src[i]));
+      }
+    }
+    return this;
+  }
+
+  @Override
+  public FloatDataBuffer put(DataBuffer<Float> src) {
+    if (src.getClass() == getClass()) {
+      buf.put(((AbstractHalfFloatJdkDataBuffer)src).buf);  // same format, copy the raw bits
+      return this;
+    }
+    return super.put(src);
+  }
+
+  @Override
+  public FloatDataBuffer duplicate() {
+    return instantiate(buf.duplicate());
+  }
+
+  @Override
+  public FloatDataBuffer slice() {
+    return instantiate(buf.slice());
+  }
+
+  @Override
+  protected ShortBuffer buf() {
+    return buf;
+  }
+
+  abstract float toFloat(short value);
+
+  abstract short fromFloat(float value);
+
+  abstract void toFloats(short[] src, int srcOffset, float[] dst, int dstOffset, int length);
+
+  abstract void fromFloats(float[] src, int srcOffset, short[] dst, int dstOffset, int length);
+
+  abstract FloatDataBuffer instantiate(ShortBuffer buf);
+
+  AbstractHalfFloatJdkDataBuffer(ShortBuffer buf) {
+    this.buf = buf;
+  }
+
+  private ShortBuffer buf;
+}
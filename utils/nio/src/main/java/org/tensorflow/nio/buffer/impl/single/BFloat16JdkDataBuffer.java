@@ -0,0 +1,97 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer.impl.single;
+
+import java.nio.ShortBuffer;
+
+import org.tensorflow.nio.buffer.FloatDataBuffer;
+import org.tensorflow.nio.buffer.HalfFloats;
+
+/**
+ * A buffer of floats stored in the bfloat16 format, using a JDK {@link ShortBuffer} for storage.
+ * <p>
+ * Since JDK buffers supports only 32-bits indexation, the capacity of this buffer type cannot exceed
+ * 2<sup>32</sup> - 1 (see {@link BFloat16JdkDataBuffer.MAX_CAPACITY} for the real maximum value supported).
+ */
+public final class BFloat16JdkDataBuffer extends AbstractHalfFloatJdkDataBuffer {
+
+  /**
+   * The maximum capacity for a buffer of this type, i.e. the maximum number of values it can store.
+   * <p>
+   * As the maximum capacity may vary depending on the JVM implementation and on the platform, this property returns
+   * a value that is safe for most of them.
+   */
+  public static long MAX_CAPACITY = AbstractJdkDataBuffer.MAX_CAPACITY;
+
+  /**
+   * Allocates a new buffer.
+   * <p>
+   * The new buffer's position will be zero, its limit will be its capacity, and each of its elements will be initialized to zero.
+   *
+   * @param capacity the new buffer's capacity, in values
+   * @return the new buffer
+   * @throws IllegalArgumentException if the capacity is a negative integer or exceeds {@link MAX_CAPACITY}.
+   */
+  public static FloatDataBuffer allocate(long capacity) {
+    if (capacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException("Capacity of a JDK data buffer cannot exceeds " + MAX_CAPACITY + " values");
+    }
+    return new BFloat16JdkDataBuffer(ShortBuffer.allocate((int)capacity));
+  }
+
+  /**
+   * Wraps a JDK {@link ShortBuffer} containing bfloat16 bits into a {@code FloatDataBuffer}.
+   *
+   * The new buffer's position, limit and capacity will be the one of the buf passed in parameter, and each of its elements will
+   * preserver their values.
+   *
+   * @param buffer buffer to wrap
+   * @return the new buffer
+   */
+  public static FloatDataBuffer wrap(ShortBuffer buffer) {
+    return new BFloat16JdkDataBuffer(buffer);
+  }
+
+  @Override
+  float toFloat(short value) {
+    return HalfFloats.bfloat16ToFloat(value);
+  }
+
+  @Override
+  short fromFloat(float value) {
+    return HalfFloats.floatToBFloat16(value);
+  }
+
+  @Override
+  void toFloats(short[] src, int srcOffset, float[] dst, int dstOffset, int length) {
+    HalfFloats.bfloat16ToFloat(src, srcOffset, dst, dstOffset, length);
+  }
+
+  @Override
+  void fromFloats(float[] src, int srcOffset, short[] dst, int dstOffset, int length) {
+    HalfFloats.floatToBFloat16(src, srcOffset, dst, dstOffset, length);
+  }
+
+  @Override
+  FloatDataBuffer instantiate(ShortBuffer buf) {
+    return new BFloat16JdkDataBuffer(buf);
+  }
+
+  private BFloat16JdkDataBuffer(ShortBuffer buf) {
+    super(buf);
+  }
+}
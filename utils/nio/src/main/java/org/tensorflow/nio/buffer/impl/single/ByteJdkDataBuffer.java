@@ -18,10 +18,16 @@
 package org.tensorflow.nio.buffer.impl.single;
 
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.stream.Stream;
 
 import org.tensorflow.nio.buffer.ByteDataBuffer;
 import org.tensorflow.nio.buffer.DataBuffer;
+import org.tensorflow.nio.buffer.DoubleDataBuffer;
+import org.tensorflow.nio.buffer.FloatDataBuffer;
+import org.tensorflow.nio.buffer.IntDataBuffer;
+import org.tensorflow.nio.buffer.LongDataBuffer;
+import org.tensorflow.nio.buffer.ShortDataBuffer;
 
 /**
  * A buffer of bytes using a JDK {@link ByteBuffer} for storage.
@@ -134,6 +140,31 @@ public final class ByteJdkDataBuffer extends AbstractJdkDataBuffer<Byte, ByteDat
     return super.put(src);
   }
 
+  @Override
+  public FloatDataBuffer asFloats(ByteOrder order) {
+    return FloatJdkDataBuffer.wrap(buf.duplicate().order(order).asFloatBuffer());
+  }
+
+  @Override
+  public ShortDataBuffer asShorts(ByteOrder order) {
+    return ShortJdkDataBuffer.wrap(buf.duplicate().order(order).asShortBuffer());
+  }
+
+  @Override
+  public DoubleDataBuffer asDoubles(ByteOrder order) {
+    return DoubleJdkDataBuffer.wrap(buf.duplicate().order(order).asDoubleBuffer());
+  }
+
+  @Override
+  public IntDataBuffer asInts(ByteOrder order) {
+    return IntJdkDataBuffer.wrap(buf.duplicate().order(order).asIntBuffer());
+  }
+
+  @Override
+  public LongDataBuffer asLongs(ByteOrder order) {
+    return LongJdkDataBuffer.wrap(buf.duplicate().order(order).asLongBuffer());
+  }
+
   @Override
   public ByteDataBuffer duplicate() {
     return new ByteJdkDataBuffer(buf.duplicate());
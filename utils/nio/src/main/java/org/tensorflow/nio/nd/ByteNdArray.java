@@ -95,6 +95,18 @@ public interface ByteNdArray extends NdArray<Byte> {
   @Override
   ByteNdArray slice(Index... indices);
 
+  @Override
+  ByteNdArray broadcastTo(Shape shape);
+
+  @Override
+  ByteNdArray transpose(int... axes);
+
+  @Override
+  ByteNdArray reshape(Shape shape);
+
+  @Override
+  ByteNdArray gather(long[] indices, NdArray<Byte> dst, boolean parallel);
+
   @Override
   Iterable<ByteNdArray> childElements();
 
@@ -95,6 +95,18 @@ public interface DoubleNdArray extends NdArray<Double> {
   @Override
   DoubleNdArray slice(Index... indices);
 
+  @Override
+  DoubleNdArray broadcastTo(Shape shape);
+
+  @Override
+  DoubleNdArray transpose(int... axes);
+
+  @Override
+  DoubleNdArray reshape(Shape shape);
+
+  @Override
+  DoubleNdArray gather(long[] indices, NdArray<Double> dst, boolean parallel);
+
   @Override
   Iterable<DoubleNdArray> childElements();
 
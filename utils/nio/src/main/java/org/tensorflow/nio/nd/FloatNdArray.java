@@ -95,6 +95,18 @@ public interface FloatNdArray extends NdArray<Float> {
   @Override
   FloatNdArray slice(Index... indices);
 
+  @Override
+  FloatNdArray broadcastTo(Shape shape);
+
+  @Override
+  FloatNdArray transpose(int... axes);
+
+  @Override
+  FloatNdArray reshape(Shape shape);
+
+  @Override
+  FloatNdArray gather(long[] indices, NdArray<Float> dst, boolean parallel);
+
   @Override
   Iterable<FloatNdArray> childElements();
 
@@ -95,6 +95,18 @@ public interface IntNdArray extends NdArray<Integer> {
   @Override
   IntNdArray slice(Index... indices);
 
+  @Override
+  IntNdArray broadcastTo(Shape shape);
+
+  @Override
+  IntNdArray transpose(int... axes);
+
+  @Override
+  IntNdArray reshape(Shape shape);
+
+  @Override
+  IntNdArray gather(long[] indices, NdArray<Integer> dst, boolean parallel);
+
   @Override
   Iterable<IntNdArray> childElements();
 
@@ -95,6 +95,18 @@ public interface LongNdArray extends NdArray<Long> {
   @Override
   LongNdArray slice(Index... indices);
 
+  @Override
+  LongNdArray broadcastTo(Shape shape);
+
+  @Override
+  LongNdArray transpose(int... axes);
+
+  @Override
+  LongNdArray reshape(Shape shape);
+
+  @Override
+  LongNdArray gather(long[] indices, NdArray<Long> dst, boolean parallel);
+
   @Override
   Iterable<LongNdArray> childElements();
 
@@ -182,6 +182,95 @@ public interface NdArray<T> {
    */
   NdArray<T> slice(Index... indices);
 
+  /**
+   * Creates a view of this array expanded to the given shape, following broadcasting rules.
+   *
+   * <p>Dimensions are matched starting from the last one, and they must either be equal to the
+   * target dimension or have a single element, which is then repeated along that dimension.
+   * Leading dimensions missing in this array are repeated as well. No data is copied: all
+   * elements of a repeated dimension read the same values in this array.
+   *
+   * <p>Broadcast views are meant for reading; writing to a repeated dimension updates the same
+   * values multiple times.
+   *
+   * <p>Example of usage:
+   * <pre>{@code
+   *    import static org.tensorflow.nio.StaticApi.*;
+   *
+   *    FloatNdArray bias = ndArrayOf(new float[] { 1.0f, 2.0f, 3.0f }, shape(3));
+   *    FloatNdArray batchBias = bias.broadcastTo(shape(64, 3));
+   *    assertEquals(2.0f, batchBias.get(10, 1));
+   *
+   *    batchBias.copyTo(batch);  // copies the bias in each of the 64 rows of the batch
+   * }</pre>
+   *
+   * @param shape target shape
+   * @return a view of this array with the target shape
+   * @throws IllegalArgumentException if this array cannot be broadcast to the given shape
+   */
+  NdArray<T> broadcastTo(Shape shape);
+
+  /**
+   * Creates a view of this array with its dimensions permuted.
+   *
+   * <p>Dimension {@code i} of the returned array is dimension {@code axes[i]} of this array. For
+   * example, transposing a {@code NHWC} batch of images with {@code transpose(0, 3, 1, 2)} returns
+   * a {@code NCHW} view of the same images. No data is copied, any changes applied to the returned
+   * array affect the data of this array as well.
+   *
+   * @param axes permutation of the dimensions of this array
+   * @return the transposed view
+   * @throws IllegalArgumentException if {@code axes} is not a permutation of the dimensions of
+   *                                  this array
+   */
+  NdArray<T> transpose(int... axes);
+
+  /**
+   * Returns an array with the same values but organized in a different shape.
+   *
+   * <p>Values are ordered the same way as when iterated with {@link #values()}. If this array is
+   * continuous in memory, the returned array is a view sharing its data. Otherwise, the values
+   * are copied into a new array, that can then be altered independently.
+   *
+   * @param shape the new shape, which size must be equal to the size of this array
+   * @return an array of the given shape
+   * @throws IllegalArgumentException if the size of {@code shape} is not equal to the size of
+   *                                  this array
+   */
+  NdArray<T> reshape(Shape shape);
+
+  /**
+   * Copies the elements of the first dimension of this array selected by {@code indices} into
+   * the destination array.
+   *
+   * <p>Element {@code indices[i]} of this array is copied to element {@code i} of {@code dst}, so
+   * the first dimension of {@code dst} must be equal to the number of indices, while the remaining
+   * dimensions must match those of this array. When both arrays are stored linearly in memory,
+   * each selected element is copied in bulk.
+   *
+   * <p>If {@code parallel} is true, elements are copied concurrently using the common fork-join
+   * pool, which is worth it when gathering a large number of indices, such as when building
+   * a mini-batch out of a dataset.
+   *
+   * <p>Example of usage:
+   * <pre>{@code
+   *    import static org.tensorflow.nio.StaticApi.*;
+   *
+   *    FloatNdArray dataset = ndArrayOfFloats(shape(60000, 28, 28));
+   *    FloatNdArray batch = ndArrayOfFloats(shape(32, 28, 28));
+   *    dataset.gather(sampleIndices, batch, true);  // sampleIndices is a long[32]
+   * }</pre>
+   *
+   * @param indices indices of the elements to copy, on the first dimension of this array
+   * @param dst array receiving the copied elements
+   * @param parallel true to copy elements concurrently
+   * @return this array
+   * @throws IllegalRankException if this array is a scalar
+   * @throws IllegalArgumentException if the shape of {@code dst} is not compatible
+   * @throws IndexOutOfBoundsException if an index is outside the limits of the first dimension
+   */
+  NdArray<T> gather(long[] indices, NdArray<T> dst, boolean parallel);
+
   /**
    * Returns the value of the scalar found at the given coordinates.
    *
@@ -23,12 +23,15 @@ import org.tensorflow.nio.buffer.DoubleDataBuffer;
 import org.tensorflow.nio.buffer.FloatDataBuffer;
 import org.tensorflow.nio.buffer.IntDataBuffer;
 import org.tensorflow.nio.buffer.LongDataBuffer;
+import org.tensorflow.nio.buffer.ShortDataBuffer;
 import org.tensorflow.nio.nd.impl.dense.ByteDenseNdArray;
 import org.tensorflow.nio.nd.impl.dense.DenseNdArray;
 import org.tensorflow.nio.nd.impl.dense.DoubleDenseNdArray;
 import org.tensorflow.nio.nd.impl.dense.FloatDenseNdArray;
 import org.tensorflow.nio.nd.impl.dense.IntDenseNdArray;
 import org.tensorflow.nio.nd.impl.dense.LongDenseNdArray;
+import org.tensorflow.nio.nd.impl.dense.ShortDenseNdArray;
+import org.tensorflow.nio.nd.impl.ragged.RowSplitsNdArray;
 
 public final class NdArrays {
   
@@ -68,6 +71,18 @@ public final class NdArrays {
     return IntDenseNdArray.wrap(buffer, shape);
   }
 
+  public static ShortNdArray ofShorts(Shape shape) {
+    return wrap(DataBuffers.ofShorts(shape.size()), shape);
+  }
+
+  public static ShortNdArray wrap(short[] values, Shape shape) {
+    return wrap(DataBuffers.wrap(values, false), shape);
+  }
+
+  public static ShortNdArray wrap(ShortDataBuffer buffer, Shape shape) {
+    return ShortDenseNdArray.wrap(buffer, shape);
+  }
+
   public static FloatNdArray ofFloats(Shape shape) {
     return wrap(DataBuffers.ofFloats(shape.size()), shape);
   }
@@ -80,6 +95,14 @@ public final class NdArrays {
     return FloatDenseNdArray.wrap(buffer, shape);
   }
 
+  public static FloatNdArray ofHalfs(Shape shape) {
+    return wrap(DataBuffers.ofHalfs(shape.size()), shape);
+  }
+
+  public static FloatNdArray ofBFloat16s(Shape shape) {
+    return wrap(DataBuffers.ofBFloat16s(shape.size()), shape);
+  }
+
   public static DoubleNdArray ofDoubles(Shape shape) {
     return wrap(DataBuffers.ofDoubles(shape.size()), shape);
   }
@@ -103,5 +126,9 @@ public final class NdArrays {
   public static <T> NdArray<T> wrap(DataBuffer<T> buffer, Shape shape) {
     return DenseNdArray.wrap(buffer, shape);
   }
+
+  public static <T> RaggedNdArray<T> wrap(DataBuffer<T> values, LongDataBuffer rowSplits, Shape shape) {
+    return RowSplitsNdArray.wrap(values, rowSplits, shape);
+  }
 }
 
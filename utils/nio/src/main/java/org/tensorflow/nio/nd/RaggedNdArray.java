@@ -0,0 +1,80 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.nd;
+
+/**
+ * An {@link NdArray} where the rows of its first dimension may have different lengths.
+ *
+ * <p>A ragged array is backed by a single flat buffer of values, concatenating all rows, and by
+ * a vector of row splits, where row {@code i} covers values in the range
+ * {@code [rowSplits[i], rowSplits[i + 1])}. This is the same encoding that TensorFlow uses for
+ * its {@code RaggedTensor} components, so {@link #flatValues()} and {@link #rowSplits()} can be
+ * fed directly as the {@code values} and {@code row_splits} tensors of ragged operations.
+ *
+ * <p>The second dimension of the {@link #shape()} of a ragged array is always of unknown size
+ * ({@link Shape#UNKNOWN_SIZE}), while all other dimensions must be known. For example, a batch of
+ * 3 sequences of variable length, where each element is a vector of 4 floats, has the shape
+ * {@code [3, -1, 4]}.
+ *
+ * <p>Example of usage:
+ * <pre>{@code
+ *    import static org.tensorflow.nio.StaticApi.*;
+ *
+ *    // Sequences of tokens [1, 2, 3], [4] and [5, 6]
+ *    RaggedNdArray<Long> tokens = ndArrayOf(
+ *        bufferOf(new Long[] { 1L, 2L, 3L, 4L, 5L, 6L }, false),
+ *        bufferOf(new long[] { 0L, 3L, 4L, 6L }, false),
+ *        shape(3, Shape.UNKNOWN_SIZE)
+ *    );
+ *    assertEquals(shape(1), tokens.at(1).shape());
+ *    assertEquals(5L, tokens.get(2, 0));
+ * }</pre>
+ *
+ * @param <T> the type of values to be mapped
+ */
+public interface RaggedNdArray<T> extends NdArray<T> {
+
+  /**
+   * Returns the row splits of this ragged array, as a vector of {@code numRows + 1} values.
+   *
+   * <p>The returned array shares the same storage than this ragged array, so any changes
+   * applied to it will affect the layout of this array as well.
+   *
+   * @return row splits vector
+   */
+  LongNdArray rowSplits();
+
+  /**
+   * Returns the values of all rows of this ragged array, concatenated in a single dense array.
+   *
+   * <p>The first dimension of the returned array is equal to the total number of elements in all
+   * rows, the remaining ones being equal to the inner dimensions of this ragged array. The
+   * returned array shares the same storage than this ragged array.
+   *
+   * @return dense array of all values
+   */
+  NdArray<T> flatValues();
+
+  /**
+   * Returns the number of elements found in the given row.
+   *
+   * @param row index of the row
+   * @return length of that row
+   * @throws IndexOutOfBoundsException if the row is outside the limits of the first dimension
+   */
+  long rowLength(long row);
+}
@@ -78,6 +78,75 @@ public final class Shape {
     return new Shape(mappedDimensions);
   }
 
+  /**
+   * Returns a shape that maps this one to the target shape, following broadcasting rules.
+   *
+   * <p>Dimensions are compared starting from the last one. A dimension is compatible with the target
+   * dimension if they have the same number of elements or if its number of elements is 1, in which
+   * case the same element is repeated for all coordinates of the target dimension. Missing leading
+   * dimensions are also repeated.
+   *
+   * @param target shape to broadcast to
+   * @return a shape equal to the target shape but reading the data of this one
+   * @throws IllegalArgumentException if this shape cannot be broadcast to the target shape
+   */
+  public Shape broadcastTo(Shape target) {
+    if (target.numDimensions() < dimensions.length) {
+      throw new IllegalArgumentException("Cannot broadcast shape " + this + " to a shape of lower rank " + target);
+    }
+    Dimension[] broadcastDimensions = new Dimension[target.numDimensions()];
+    int firstMappedDimension = target.numDimensions() - dimensions.length;
+    for (int i = 0; i < broadcastDimensions.length; ++i) {
+      long numElements = target.numElements(i);
+      if (numElements == UNKNOWN_SIZE) {
+        throw new IllegalArgumentException("Cannot broadcast to a shape with unknown dimensions");
+      }
+      if (i < firstMappedDimension) {
+        broadcastDimensions[i] = Dimensions.broadcast(numElements);
+      } else {
+        Dimension dimension = dimensions[i - firstMappedDimension];
+        if (dimension.numElements() == numElements) {
+          broadcastDimensions[i] = dimension;
+        } else if (dimension.numElements() == 1) {
+          broadcastDimensions[i] = Dimensions.broadcast(numElements);
+        } else {
+          throw new IllegalArgumentException("Cannot broadcast shape " + this + " to " + target);
+        }
+      }
+    }
+    return new Shape(broadcastDimensions);
+  }
+
+  /**
+   * Returns a shape with the dimensions of this one permuted in the given order.
+   *
+   * <p>Dimension {@code i} of the returned shape is dimension {@code axes[i]} of this shape. As
+   * each dimension keeps its own stride, the returned shape still addresses the data of this one.
+   *
+   * @param axes permutation of the dimensions of this shape
+   * @return the permuted shape
+   * @throws IllegalArgumentException if axes is not a permutation of {@code [0, numDimensions())}
+   */
+  public Shape transpose(int... axes) {
+    if (axes.length != dimensions.length) {
+      throw new IllegalArgumentException("Transpose requires " + dimensions.length + " axes, got " + axes.length);
+    }
+    Dimension[] transposedDimensions = new Dimension[dimensions.length];
+    for (int i = 0; i < axes.length; ++i) {
+      int axis = axes[i];
+      if (axis < 0 || axis >= dimensions.length) {
+        throw new IllegalArgumentException("Invalid axis " + axis + " in transpose " + Arrays.toString(axes));
+      }
+      for (int j = 0; j < i; ++j) {
+        if (axes[j] == axis) {
+          throw new IllegalArgumentException("Axis " + axis + " is repeated in transpose " + Arrays.toString(axes));
+        }
+      }
+      transposedDimensions[i] = dimensions[axis];
+    }
+    return new Shape(transposedDimensions);
+  }
+
   /**
    * Number of dimensions represented by this shape.
    *
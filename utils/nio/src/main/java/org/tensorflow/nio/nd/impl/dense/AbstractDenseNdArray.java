@@ -18,12 +18,15 @@ package org.tensorflow.nio.nd.impl.dense;
 
 import java.nio.BufferOverflowException;
 import java.nio.BufferUnderflowException;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
 
 import org.tensorflow.nio.buffer.DataBuffer;
 import org.tensorflow.nio.nd.IllegalRankException;
 import org.tensorflow.nio.nd.NdArray;
 import org.tensorflow.nio.nd.Shape;
 import org.tensorflow.nio.nd.impl.AbstractNdArray;
+import org.tensorflow.nio.nd.impl.dimension.Dimension;
 import org.tensorflow.nio.nd.index.Index;
 
 @SuppressWarnings("unchecked")
@@ -50,6 +53,66 @@ public abstract class AbstractDenseNdArray<T, U extends NdArray<T>> extends Abst
     return allocateSlice(slicePosition, sliceShape);
   }
 
+  @Override
+  public U broadcastTo(Shape shape) {
+    return allocateSlice(0L, shape().broadcastTo(shape));
+  }
+
+  @Override
+  public U transpose(int... axes) {
+    return allocateSlice(0L, shape().transpose(axes));
+  }
+
+  @Override
+  public U reshape(Shape shape) {
+    Validator.denseShape(shape);
+    if (shape.size() != size()) {
+      throw new IllegalArgumentException("Cannot reshape an array of " + size() + " values to " + shape);
+    }
+    Shape reshaped = Shape.create(shape.toArray());
+    if (isContinuous(shape())) {
+      return allocateSlice(0L, reshaped);
+    }
+    U copy = allocate(reshaped);
+    read(((AbstractDenseNdArray<T, U>)copy).buffer().duplicate());
+    return copy;
+  }
+
+  @Override
+  public U gather(long[] indices, NdArray<T> dst, boolean parallel) {
+    if (shape().numDimensions() == 0) {
+      throw new IllegalRankException("Cannot gather elements of a scalar");
+    }
+    Shape elementShape = shape().subshape(1);
+    if (dst.rank() != rank() || dst.shape().numElements(0) != indices.length
+        || !elementShape.equals(dst.shape().subshape(1))) {
+      throw new IllegalArgumentException("Cannot gather " + indices.length + " elements of shape "
+          + elementShape + " to an array of shape " + dst.shape());
+    }
+    IntConsumer copyElement;
+    if (isContinuous(elementShape) && dst instanceof AbstractDenseNdArray
+        && isContinuous(dst.shape())) {
+      Dimension firstDimension = shape().dimension(0);
+      DataBuffer<T> dstBuffer = ((AbstractDenseNdArray<T, ?>)dst).buffer();
+      long elementSize = elementShape.size();
+      copyElement = i -> {
+        if (indices[i] < 0) {
+          throw new IndexOutOfBoundsException();
+        }
+        long position = firstDimension.positionOf(indices[i]);
+        dstBuffer.withPosition(i * elementSize)
+            .put(buffer().withLimit(position + elementSize).withPosition(position));
+      };
+    } else if (elementShape.numDimensions() == 0) {
+      copyElement = i -> dst.set(get(indices[i]), i);
+    } else {
+      copyElement = i -> at(indices[i]).copyTo(dst.at(i));
+    }
+    IntStream range = IntStream.range(0, indices.length);
+    (parallel ? range.parallel() : range).forEach(copyElement);
+    return (U)this;
+  }
+
   @Override
   public T get(long... indices) {
     return buffer().get(position(indices, true));
@@ -63,13 +126,23 @@ public abstract class AbstractDenseNdArray<T, U extends NdArray<T>> extends Abst
 
   @Override
   public U copyTo(NdArray<T> dst) {
-    // TODO Optimize when array is continuous in memory
+    if (dst instanceof AbstractDenseNdArray && isContinuous(dst.shape())) {
+      if (!shape().equals(dst.shape())) {
+        throw new IllegalArgumentException("Can only copy to arrays of the same shape");
+      }
+      return read(((AbstractDenseNdArray<T, ?>)dst).buffer().duplicate());
+    }
     return super.copyTo(dst);
   }
 
   @Override
   public U copyFrom(NdArray<T> src) {
-    // TODO Optimize when array is continuous in memory
+    if (src instanceof AbstractDenseNdArray && isContinuous(src.shape())) {
+      if (!shape().equals(src.shape())) {
+        throw new IllegalArgumentException("Can only copy to arrays of the same shape");
+      }
+      return write(((AbstractDenseNdArray<T, ?>)src).buffer().duplicate());
+    }
     return super.copyFrom(src);
   }
 
@@ -107,6 +180,8 @@ public abstract class AbstractDenseNdArray<T, U extends NdArray<T>> extends Abst
 
   protected abstract U allocateSlice(long position, Shape shape);
 
+  protected abstract U allocate(Shape shape);
+
   private long position(long[] indices, boolean scalar) {
     if (indices.length > shape().numDimensions()) {
       throw new IndexOutOfBoundsException();
@@ -127,11 +202,34 @@ public abstract class AbstractDenseNdArray<T, U extends NdArray<T>> extends Abst
 
   /**
    * Check if we copy this array data in bulk. Bulk copy is only possible for array of 1-dimension or more and that
-   * the last dimension is not segmented (therefore linear in memory).
+   * the last dimension is not segmented nor transposed (therefore linear in memory).
    *
    * @return true if bulk copy is possible
    */
   private boolean isBulkCopyAvailable() {
-    return shape().numDimensions() > 0 && !shape().dimension(shape().numDimensions() - 1).isSegmented();
+    if (shape().numDimensions() == 0) {
+      return false;
+    }
+    Dimension lastDimension = shape().dimension(shape().numDimensions() - 1);
+    return !lastDimension.isSegmented() && lastDimension.stride() == 1L;
+  }
+
+  /**
+   * Check if all values of an array of the given shape are stored linearly in memory, in the same order they are
+   * iterated.
+   *
+   * @param shape shape of a dense array
+   * @return true if the array is continuous
+   */
+  private static boolean isContinuous(Shape shape) {
+    long stride = 1L;
+    for (int i = shape.numDimensions() - 1; i >= 0; --i) {
+      Dimension dimension = shape.dimension(i);
+      if (dimension.isSegmented() || dimension.stride() != stride) {
+        return false;
+      }
+      stride *= dimension.numElements();
+    }
+    return true;
   }
 }
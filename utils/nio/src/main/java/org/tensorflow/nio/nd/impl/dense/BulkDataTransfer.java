@@ -31,10 +31,11 @@ class BulkDataTransfer<T> {
     long bulkCopySize = 1L;
 
     // Find what are the biggest chunk of data that we can copy in bulk by starting from the last dimension of this array and
-    // iterating backward until we hit a dimension that is segmented (if any)
+    // iterating backward until we hit a dimension that is segmented or that is not following the previous one in memory,
+    // like in transposed arrays (if any)
     for (int i = array.shape().numDimensions() - 1; i >= 0; --i) {
       Dimension dim = array.shape().dimension(i);
-      if (dim.isSegmented()) {
+      if (dim.isSegmented() || dim.stride() != bulkCopySize) {
         break;
       }
       bulkCopyDimensionIdx = i;
@@ -17,6 +17,7 @@
 package org.tensorflow.nio.nd.impl.dense;
 
 import org.tensorflow.nio.buffer.ByteDataBuffer;
+import org.tensorflow.nio.buffer.DataBuffers;
 import org.tensorflow.nio.nd.ByteNdArray;
 import org.tensorflow.nio.nd.Shape;
 
@@ -37,6 +38,11 @@ public class ByteDenseNdArray extends AbstractDenseNdArray<Byte, ByteNdArray> im
     return new ByteDenseNdArray(buffer.withPosition(position).slice(), shape);
   }
 
+  @Override
+  protected ByteDenseNdArray allocate(Shape shape) {
+    return new ByteDenseNdArray(DataBuffers.ofBytes(shape.size()), shape);
+  }
+
   private ByteDenseNdArray(ByteDataBuffer buffer, Shape shape) {
     super(shape);
     this.buffer = buffer;
@@ -17,6 +17,7 @@
 package org.tensorflow.nio.nd.impl.dense;
 
 import org.tensorflow.nio.buffer.DataBuffer;
+import org.tensorflow.nio.buffer.DataBuffers;
 import org.tensorflow.nio.nd.NdArray;
 import org.tensorflow.nio.nd.Shape;
 
@@ -37,6 +38,13 @@ public class DenseNdArray<T> extends AbstractDenseNdArray<T, NdArray<T>> {
     return new DenseNdArray<>(buffer.withPosition(position).slice(), shape);
   }
 
+  @Override
+  @SuppressWarnings("unchecked")
+  protected DenseNdArray<T> allocate(Shape shape) {
+    // The actual class of the values is unknown, but an array of objects can store any of them
+    return new DenseNdArray<>(DataBuffers.of((Class<T>)Object.class, shape.size()), shape);
+  }
+
   private DenseNdArray(DataBuffer<T> buffer, Shape shape) {
     super(shape);
     this.buffer = buffer;
@@ -16,6 +16,7 @@
  */
 package org.tensorflow.nio.nd.impl.dense;
 
+import org.tensorflow.nio.buffer.DataBuffers;
 import org.tensorflow.nio.buffer.DoubleDataBuffer;
 import org.tensorflow.nio.nd.DoubleNdArray;
 import org.tensorflow.nio.nd.Shape;
@@ -37,6 +38,11 @@ public class DoubleDenseNdArray extends AbstractDenseNdArray<Double, DoubleNdArr
     return new DoubleDenseNdArray(buffer.withPosition(position).slice(), shape);
   }
 
+  @Override
+  protected DoubleDenseNdArray allocate(Shape shape) {
+    return new DoubleDenseNdArray(DataBuffers.ofDoubles(shape.size()), shape);
+  }
+
   private DoubleDenseNdArray(DoubleDataBuffer buffer, Shape shape) {
     super(shape);
     this.buffer = buffer;
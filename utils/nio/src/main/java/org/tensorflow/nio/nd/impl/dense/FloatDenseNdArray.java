@@ -16,6 +16,7 @@
  */
 package org.tensorflow.nio.nd.impl.dense;
 
+import org.tensorflow.nio.buffer.DataBuffers;
 import org.tensorflow.nio.buffer.FloatDataBuffer;
 import org.tensorflow.nio.nd.FloatNdArray;
 import org.tensorflow.nio.nd.Shape;
@@ -36,6 +37,11 @@ public class FloatDenseNdArray extends AbstractDenseNdArray<Float, FloatNdArray>
     return new FloatDenseNdArray(buffer.withPosition(position).slice(), shape);
   }
 
+  @Override
+  protected FloatDenseNdArray allocate(Shape shape) {
+    return new FloatDenseNdArray(DataBuffers.ofFloats(shape.size()), shape);
+  }
+
   private FloatDenseNdArray(FloatDataBuffer buffer, Shape shape) {
     super(shape);
     this.buffer = buffer;
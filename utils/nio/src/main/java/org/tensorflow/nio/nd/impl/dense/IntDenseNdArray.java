@@ -16,6 +16,7 @@
  */
 package org.tensorflow.nio.nd.impl.dense;
 
+import org.tensorflow.nio.buffer.DataBuffers;
 import org.tensorflow.nio.buffer.IntDataBuffer;
 import org.tensorflow.nio.nd.IntNdArray;
 import org.tensorflow.nio.nd.Shape;
@@ -37,6 +38,11 @@ public class IntDenseNdArray extends AbstractDenseNdArray<Integer, IntNdArray> i
     return new IntDenseNdArray(buffer.withPosition(position).slice(), shape);
   }
 
+  @Override
+  protected IntDenseNdArray allocate(Shape shape) {
+    return new IntDenseNdArray(DataBuffers.ofIntegers(shape.size()), shape);
+  }
+
   private IntDenseNdArray(IntDataBuffer buffer, Shape shape) {
     super(shape);
     this.buffer = buffer;
@@ -16,6 +16,7 @@
  */
 package org.tensorflow.nio.nd.impl.dense;
 
+import org.tensorflow.nio.buffer.DataBuffers;
 import org.tensorflow.nio.buffer.LongDataBuffer;
 import org.tensorflow.nio.nd.LongNdArray;
 import org.tensorflow.nio.nd.Shape;
@@ -37,6 +38,11 @@ public class LongDenseNdArray extends AbstractDenseNdArray<Long, LongNdArray> im
     return new LongDenseNdArray(buffer.withPosition(position).slice(), shape);
   }
 
+  @Override
+  protected LongDenseNdArray allocate(Shape shape) {
+    return new LongDenseNdArray(DataBuffers.ofLongs(shape.size()), shape);
+  }
+
   private LongDenseNdArray(LongDataBuffer buffer, Shape shape) {
     super(shape);
     this.buffer = buffer;
@@ -17,8 +17,6 @@
 package org.tensorflow.nio.nd.impl.dimension;
 
 abstract class AbstractDimension implements Dimension {
-  
-  abstract long stride();
 
   /**
    * Dimensions are known to be equal if they have the same number of elements
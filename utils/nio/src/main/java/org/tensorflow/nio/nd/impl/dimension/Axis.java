@@ -42,7 +42,7 @@ final class Axis extends AbstractDimension {
   }
 
   @Override
-  long stride() {
+  public long stride() {
     return stride;
   }
   
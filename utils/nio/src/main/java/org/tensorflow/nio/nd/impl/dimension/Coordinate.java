@@ -44,7 +44,7 @@ final class Coordinate extends AbstractDimension {
   }
 
   @Override
-  long stride() {
+  public long stride() {
     return stride;
   }
 
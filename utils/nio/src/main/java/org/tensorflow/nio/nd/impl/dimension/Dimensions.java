@@ -32,6 +32,10 @@ public final class Dimensions {
     return new Coordinate(index, (AbstractDimension)originalDimension);
   }
   
+  public static Dimension broadcast(long numElements) {
+    return new BroadcastDimension(numElements);
+  }
+
   public static Dimension indexed(Dimension originalDimension, Index index) {
     return new IndexedDimension((AbstractDimension)originalDimension, index);
   }
@@ -0,0 +1,130 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.nd.impl.ragged;
+
+import java.util.Collections;
+import java.util.NoSuchElementException;
+
+import org.tensorflow.nio.buffer.DataBuffer;
+import org.tensorflow.nio.nd.NdArray;
+import org.tensorflow.nio.nd.Shape;
+import org.tensorflow.nio.nd.impl.AbstractNdArray;
+import org.tensorflow.nio.nd.impl.iterator.ValueIterable;
+import org.tensorflow.nio.nd.impl.iterator.ValueIterator;
+import org.tensorflow.nio.nd.index.Index;
+
+/**
+ * A row of a ragged array that has no elements.
+ *
+ * <p>Dense arrays use dimensions of size 0 for the dimensions that have been indexed out of their
+ * shape, so they cannot represent an empty row. Its first dimension still has a size of 0 in
+ * {@link #shape()}, but the array has no values nor child elements.
+ *
+ * @param <T> the type of values to be mapped
+ */
+class EmptyRowNdArray<T> extends AbstractNdArray<T, NdArray<T>> {
+
+  @Override
+  public long size() {
+    return 0L;
+  }
+
+  @Override
+  public ValueIterable<T> values() {
+    return () -> new EmptyValueIterator<>();
+  }
+
+  @Override
+  public Iterable<NdArray<T>> childElements() {
+    return Collections.emptyList();
+  }
+
+  @Override
+  public NdArray<T> at(long... indices) {
+    if (indices.length == 0) {
+      return this;
+    }
+    throw new IndexOutOfBoundsException("Row is empty");
+  }
+
+  @Override
+  public NdArray<T> slice(Index... indices) {
+    throw new UnsupportedOperationException("Empty rows cannot be sliced");
+  }
+
+  @Override
+  public NdArray<T> broadcastTo(Shape shape) {
+    throw new UnsupportedOperationException("Empty rows cannot be broadcast");
+  }
+
+  @Override
+  public NdArray<T> transpose(int... axes) {
+    throw new UnsupportedOperationException("Empty rows cannot be transposed");
+  }
+
+  @Override
+  public NdArray<T> reshape(Shape shape) {
+    throw new UnsupportedOperationException("Empty rows cannot be reshaped");
+  }
+
+  @Override
+  public NdArray<T> gather(long[] indices, NdArray<T> dst, boolean parallel) {
+    throw new UnsupportedOperationException("Elements of an empty row cannot be gathered");
+  }
+
+  @Override
+  public T get(long... indices) {
+    throw new IndexOutOfBoundsException("Row is empty");
+  }
+
+  @Override
+  public NdArray<T> set(T value, long... indices) {
+    throw new IndexOutOfBoundsException("Row is empty");
+  }
+
+  @Override
+  public NdArray<T> read(DataBuffer<T> dst) {
+    return this;
+  }
+
+  @Override
+  public NdArray<T> write(DataBuffer<T> src) {
+    return this;
+  }
+
+  EmptyRowNdArray(Shape shape) {
+    super(shape);
+  }
+
+  private static class EmptyValueIterator<T> implements ValueIterator<T> {
+
+    @Override
+    public boolean hasNext() {
+      return false;
+    }
+
+    @Override
+    public T next() {
+      throw new NoSuchElementException();
+    }
+
+    @Override
+    public void next(T value) {
+      throw new NoSuchElementException();
+    }
+  }
+}
@@ -0,0 +1,242 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.nd.impl.ragged;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+
+import org.tensorflow.nio.buffer.DataBuffer;
+import org.tensorflow.nio.buffer.LongDataBuffer;
+import org.tensorflow.nio.nd.IllegalRankException;
+import org.tensorflow.nio.nd.LongNdArray;
+import org.tensorflow.nio.nd.NdArray;
+import org.tensorflow.nio.nd.NdArrays;
+import org.tensorflow.nio.nd.RaggedNdArray;
+import org.tensorflow.nio.nd.Shape;
+import org.tensorflow.nio.nd.impl.AbstractNdArray;
+import org.tensorflow.nio.nd.impl.iterator.ValueIterable;
+import org.tensorflow.nio.nd.index.Index;
+
+/**
+ * A ragged array encoded as a flat buffer of values split in rows by a buffer of offsets.
+ *
+ * <p>Rows are returned as dense views over a window of the values buffer, so accessing them does
+ * not copy any data. Rows without elements are returned as empty arrays, which have no values.
+ *
+ * @param <T> the type of values to be mapped
+ */
+public class RowSplitsNdArray<T> extends AbstractNdArray<T, NdArray<T>> implements RaggedNdArray<T> {
+
+  public static <T> RaggedNdArray<T> wrap(DataBuffer<T> values, LongDataBuffer rowSplits, Shape shape) {
+    Validator.raggedShape(shape);
+    Shape innerShape = shape.subshape(2);
+    Validator.rowSplits(rowSplits, values, shape.numElements(0), innerShape.size());
+    return new RowSplitsNdArray<>(values, rowSplits, shape, innerShape);
+  }
+
+  @Override
+  public long size() {
+    return numFlatElements() * innerSize;
+  }
+
+  @Override
+  public ValueIterable<T> values() {
+    return flatValues().values();
+  }
+
+  @Override
+  public LongNdArray rowSplits() {
+    return NdArrays.wrap(rowSplits, Shape.create(numRows() + 1));
+  }
+
+  @Override
+  public NdArray<T> flatValues() {
+    return NdArrays.wrap(values, flatShape(numFlatElements()));
+  }
+
+  @Override
+  public long rowLength(long row) {
+    if (row < 0 || row >= numRows()) {
+      throw new IndexOutOfBoundsException();
+    }
+    return rowSplits.get(row + 1) - rowSplits.get(row);
+  }
+
+  @Override
+  public NdArray<T> at(long... indices) {
+    if (indices.length == 0) {
+      return this;
+    }
+    NdArray<T> row = row(indices[0]);
+    if (indices.length == 1) {
+      return row;
+    }
+    long[] rowIndices = new long[indices.length - 1];
+    System.arraycopy(indices, 1, rowIndices, 0, rowIndices.length);
+    return row.at(rowIndices);
+  }
+
+  @Override
+  public NdArray<T> slice(Index... indices) {
+    throw new UnsupportedOperationException("Ragged arrays cannot be sliced, access rows with at() instead");
+  }
+
+  @Override
+  public NdArray<T> broadcastTo(Shape shape) {
+    throw new UnsupportedOperationException("Ragged arrays cannot be broadcast");
+  }
+
+  @Override
+  public NdArray<T> transpose(int... axes) {
+    throw new UnsupportedOperationException("Ragged arrays cannot be transposed");
+  }
+
+  @Override
+  public NdArray<T> reshape(Shape shape) {
+    throw new UnsupportedOperationException("Ragged arrays cannot be reshaped, reshape flatValues() instead");
+  }
+
+  @Override
+  public NdArray<T> gather(long[] indices, NdArray<T> dst, boolean parallel) {
+    throw new UnsupportedOperationException("Rows of a ragged array cannot be gathered");
+  }
+
+  @Override
+  public T get(long... indices) {
+    return values.get(position(indices));
+  }
+
+  @Override
+  public NdArray<T> set(T value, long... indices) {
+    values.put(position(indices), value);
+    return this;
+  }
+
+  @Override
+  public NdArray<T> copyTo(NdArray<T> dst) {
+    if (!hasSameLayout(dst)) {
+      throw new IllegalArgumentException("Can only copy to ragged arrays of the same layout");
+    }
+    flatValues().copyTo(((RaggedNdArray<T>)dst).flatValues());
+    return this;
+  }
+
+  @Override
+  public NdArray<T> copyFrom(NdArray<T> src) {
+    if (!hasSameLayout(src)) {
+      throw new IllegalArgumentException("Can only copy from ragged arrays of the same layout");
+    }
+    flatValues().copyFrom(((RaggedNdArray<T>)src).flatValues());
+    return this;
+  }
+
+  @Override
+  public NdArray<T> read(DataBuffer<T> dst) {
+    if (dst.remaining() < size()) {
+      throw new BufferOverflowException();
+    }
+    flatValues().read(dst);
+    return this;
+  }
+
+  @Override
+  public NdArray<T> write(DataBuffer<T> src) {
+    if (src.remaining() < size()) {
+      throw new BufferUnderflowException();
+    }
+    flatValues().write(src);
+    return this;
+  }
+
+  private RowSplitsNdArray(DataBuffer<T> values, LongDataBuffer rowSplits, Shape shape, Shape innerShape) {
+    super(shape);
+    this.values = values;
+    this.rowSplits = rowSplits;
+    this.innerShape = innerShape;
+    this.innerSize = innerShape.size();
+  }
+
+  private final DataBuffer<T> values;
+  private final LongDataBuffer rowSplits;
+  private final Shape innerShape;
+  private final long innerSize;
+
+  private long numRows() {
+    return shape().numElements(0);
+  }
+
+  private long numFlatElements() {
+    return rowSplits.get(numRows());
+  }
+
+  private Shape flatShape(long numElements) {
+    long[] dimensionSizes = new long[innerShape.numDimensions() + 1];
+    dimensionSizes[0] = numElements;
+    for (int i = 0; i < innerShape.numDimensions(); ++i) {
+      dimensionSizes[i + 1] = innerShape.numElements(i);
+    }
+    return Shape.create(dimensionSizes);
+  }
+
+  private NdArray<T> row(long row) {
+    long rowLength = rowLength(row);
+    if (rowLength == 0) {
+      return new EmptyRowNdArray<>(flatShape(0));
+    }
+    long rowStart = rowSplits.get(row) * innerSize;
+    DataBuffer<T> rowValues = values.withLimit(rowStart + rowLength * innerSize).withPosition(rowStart).slice();
+    return NdArrays.wrap(rowValues, flatShape(rowLength));
+  }
+
+  private long position(long[] indices) {
+    if (indices.length != shape().numDimensions()) {
+      throw new IllegalRankException("Not a scalar value");
+    }
+    long rowLength = rowLength(indices[0]);
+    if (indices[1] < 0 || indices[1] >= rowLength) {
+      throw new IndexOutOfBoundsException();
+    }
+    long position = (rowSplits.get(indices[0]) + indices[1]) * innerSize;
+    for (int i = 2; i < indices.length; ++i) {
+      if (indices[i] < 0) {
+        throw new IndexOutOfBoundsException();
+      }
+      position += innerShape.dimension(i - 2).positionOf(indices[i]);
+    }
+    return position;
+  }
+
+  private boolean hasSameLayout(NdArray<T> other) {
+    if (!(other instanceof RaggedNdArray)) {
+      return false;
+    }
+    RaggedNdArray<T> otherRagged = (RaggedNdArray<T>)other;
+    if (!innerShape.equals(otherRagged.shape().subshape(2))) {
+      return false;
+    }
+    LongNdArray otherRowSplits = otherRagged.rowSplits();
+    if (otherRowSplits.size() != numRows() + 1) {
+      return false;
+    }
+    for (long i = 0; i <= numRows(); ++i) {
+      if (rowSplits.get(i).longValue() != otherRowSplits.get(i).longValue()) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
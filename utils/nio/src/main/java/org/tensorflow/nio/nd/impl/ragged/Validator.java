@@ -0,0 +1,59 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.nd.impl.ragged;
+
+import org.tensorflow.nio.buffer.DataBuffer;
+import org.tensorflow.nio.buffer.LongDataBuffer;
+import org.tensorflow.nio.nd.Shape;
+
+class Validator {
+
+  static void raggedShape(Shape shape) {
+    if (shape.numDimensions() < 2) {
+      throw new IllegalArgumentException("Ragged arrays must have at least two dimensions");
+    }
+    if (shape.numElements(0) == Shape.UNKNOWN_SIZE) {
+      throw new IllegalArgumentException("Number of rows of a ragged array must be known");
+    }
+    if (shape.numElements(1) != Shape.UNKNOWN_SIZE) {
+      throw new IllegalArgumentException("Second dimension of a ragged array must be of unknown size");
+    }
+    if (shape.subshape(2).hasUnknownDimension()) {
+      throw new IllegalArgumentException("Only the second dimension of a ragged array can be of unknown size");
+    }
+  }
+
+  static <T> void rowSplits(LongDataBuffer rowSplits, DataBuffer<T> values, long numRows, long innerSize) {
+    if (rowSplits.capacity() != numRows + 1) {
+      throw new IllegalArgumentException("Row splits must have exactly " + (numRows + 1) + " values");
+    }
+    if (rowSplits.get(0) != 0L) {
+      throw new IllegalArgumentException("First row split must be 0");
+    }
+    long previousSplit = 0L;
+    for (long i = 1; i <= numRows; ++i) {
+      long split = rowSplits.get(i);
+      if (split < previousSplit) {
+        throw new IllegalArgumentException("Row splits must be sorted in ascending order");
+      }
+      previousSplit = split;
+    }
+    if (previousSplit * innerSize > values.capacity()) {
+      throw new IllegalArgumentException("Buffer of values is too small for the given row splits");
+    }
+  }
+}
@@ -17,8 +17,6 @@
 package org.tensorflow.nio.nd.index;
 
 import org.tensorflow.nio.nd.NdArray;
-import org.tensorflow.nio.nd.NdArrays;
-import org.tensorflow.nio.nd.Shape;
 
 public final class Indices {
   
@@ -41,14 +39,19 @@ public final class Indices {
     if (indices == null) {
       throw new IllegalArgumentException();
     }
-    return new Sequence(NdArrays.wrap(indices, Shape.create(indices.length)));
+    return new Sequence(indices);
   }
   
   public static Index elem(NdArray<? extends Number> indices) {
     if (indices.shape().numDimensions() != 1) {
       throw new IllegalArgumentException("Only vectors are accepted as an element index");
     }
-    return new Sequence(indices);
+    long[] values = new long[(int)indices.size()];
+    int i = 0;
+    for (Number value : indices.values()) {
+      values[i++] = value.longValue();
+    }
+    return new Sequence(values);
   }
   
   public static Index even() {
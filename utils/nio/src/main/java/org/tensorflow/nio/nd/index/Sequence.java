@@ -16,7 +16,6 @@
  */
 package org.tensorflow.nio.nd.index;
 
-import org.tensorflow.nio.nd.NdArray;
 import org.tensorflow.nio.nd.impl.dimension.Dimension;
 import org.tensorflow.nio.nd.impl.dimension.Dimensions;
 
@@ -30,17 +29,17 @@ class Sequence implements Index {
 
   @Override
   public long numElements(Dimension dim) {
-    return values.size();
+    return values.length;
   }
 
   @Override
   public long mapCoordinate(long coordinate, Dimension dim) {
-    return values.get(coordinate).longValue();
+    return values[(int)coordinate];
   }
 
-  Sequence(NdArray<? extends Number> values) {
+  Sequence(long[] values) {
     this.values = values;
   }
 
-  private NdArray<? extends Number> values;
+  private final long[] values;
 }
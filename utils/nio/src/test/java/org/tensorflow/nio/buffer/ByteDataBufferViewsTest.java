@@ -0,0 +1,107 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.junit.Test;
+import org.tensorflow.nio.buffer.impl.large.ByteLargeDataBuffer;
+import org.tensorflow.nio.buffer.impl.single.ByteJdkDataBuffer;
+
+public class ByteDataBufferViewsTest {
+
+  @Test
+  public void floatViewSharesMemory() {
+    ByteBuffer bytes = ByteBuffer.allocate(16).order(ByteOrder.LITTLE_ENDIAN);
+    bytes.putFloat(0, 1.0f).putFloat(4, 2.0f).putFloat(8, 3.0f).putFloat(12, 4.0f);
+    ByteDataBuffer buffer = ByteJdkDataBuffer.wrap(bytes);
+
+    FloatDataBuffer floats = buffer.asFloats(ByteOrder.LITTLE_ENDIAN);
+    assertEquals(4, floats.capacity());
+    assertEquals(0, floats.position());
+    assertEquals(3.0f, floats.get(2), 0.0f);
+
+    floats.put(1, 10.0f);
+    assertEquals(10.0f, bytes.getFloat(4), 0.0f);
+
+    FloatDataBuffer bigEndianFloats = buffer.asFloats(ByteOrder.BIG_ENDIAN);
+    assertEquals(Float.intBitsToFloat(Integer.reverseBytes(Float.floatToIntBits(3.0f))), bigEndianFloats.get(2), 0.0f);
+  }
+
+  @Test
+  public void viewStartsAtPosition() {
+    ByteDataBuffer buffer = ByteJdkDataBuffer.allocate(20);
+    buffer.position(4);
+    IntDataBuffer ints = buffer.asInts(ByteOrder.BIG_ENDIAN);
+    assertEquals(4, ints.capacity());
+    ints.put(0, 0x01020304);
+    assertEquals(Byte.valueOf((byte)0x01), buffer.get(4));
+    assertEquals(Byte.valueOf((byte)0x04), buffer.get(7));
+
+    ByteDataBuffer window = buffer.withPosition(8).withLimit(16).slice();
+    LongDataBuffer longs = window.asLongs(ByteOrder.BIG_ENDIAN);
+    assertEquals(1, longs.capacity());
+    longs.put(0, -1L);
+    assertEquals(Byte.valueOf((byte)-1), buffer.get(8));
+    assertEquals(Byte.valueOf((byte)-1), buffer.get(15));
+    assertEquals(Byte.valueOf((byte)0), buffer.get(16));
+  }
+
+  @Test
+  public void viewsSpanLargeBufferChunks() {
+    ByteDataBuffer[] chunks = new ByteDataBuffer[3];
+    for (int i = 0; i < chunks.length; ++i) {
+      chunks[i] = ByteJdkDataBuffer.allocate(16);
+    }
+    ByteDataBuffer buffer = ByteLargeDataBuffer.join(chunks);
+
+    DoubleDataBuffer doubles = buffer.asDoubles(ByteOrder.LITTLE_ENDIAN);
+    assertEquals(6, doubles.capacity());
+    for (long i = 0; i < doubles.capacity(); ++i) {
+      doubles.put(i, (double)i);
+    }
+    assertEquals(3.0, ByteBuffer.wrap(readAll(chunks[1])).order(ByteOrder.LITTLE_ENDIAN).getDouble(8), 0.0);
+
+    buffer.position(8);
+    DoubleDataBuffer shiftedDoubles = buffer.asDoubles(ByteOrder.LITTLE_ENDIAN);
+    assertEquals(5, shiftedDoubles.capacity());
+    assertEquals(1.0, shiftedDoubles.get(0), 0.0);
+    assertEquals(5.0, shiftedDoubles.get(4), 0.0);
+
+    buffer.position(20).limit(28);
+    FloatDataBuffer floats = buffer.asFloats(ByteOrder.LITTLE_ENDIAN);
+    assertEquals(2, floats.capacity());
+
+    buffer.position(6).limit(48);
+    try {
+      buffer.asInts(ByteOrder.LITTLE_ENDIAN);
+      fail();
+    } catch (IllegalStateException e) {
+      // as expected
+    }
+  }
+
+  private static byte[] readAll(ByteDataBuffer buffer) {
+    byte[] bytes = new byte[(int)buffer.capacity()];
+    buffer.duplicate().rewind().get(bytes);
+    return bytes;
+  }
+}
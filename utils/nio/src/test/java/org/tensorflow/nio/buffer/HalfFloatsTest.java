@@ -0,0 +1,78 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class HalfFloatsTest {
+
+  @Test
+  public void halfConversions() {
+    assertEquals((short)0x3C00, HalfFloats.floatToHalf(1.0f));
+    assertEquals((short)0xC000, HalfFloats.floatToHalf(-2.0f));
+    assertEquals((short)0x7BFF, HalfFloats.floatToHalf(65504.0f));
+    assertEquals((short)0x7C00, HalfFloats.floatToHalf(65520.0f));  // rounds up to infinity
+    assertEquals((short)0xFC00, HalfFloats.floatToHalf(Float.NEGATIVE_INFINITY));
+    assertEquals((short)0x0001, HalfFloats.floatToHalf(0x1p-24f));  // smallest subnormal
+    assertEquals((short)0x0000, HalfFloats.floatToHalf(0x1p-25f));  // ties to even
+    assertEquals((short)0x8000, HalfFloats.floatToHalf(-0.0f));
+    assertEquals((short)0x3C00, HalfFloats.floatToHalf(1.0f + 0x1p-11f));  // ties to even
+    assertEquals((short)0x3C01, HalfFloats.floatToHalf(1.0f + 0x1p-11f + 0x1p-20f));
+    assertTrue(Float.isNaN(HalfFloats.halfToFloat(HalfFloats.floatToHalf(Float.NaN))));
+
+    for (int bits = 0; bits <= 0xFFFF; ++bits) {
+      float value = HalfFloats.halfToFloat((short)bits);
+      if (!Float.isNaN(value)) {
+        assertEquals(bits, HalfFloats.floatToHalf(value) & 0xFFFF);
+      }
+    }
+    assertEquals(0x1p-24f, HalfFloats.halfToFloat((short)0x0001), 0.0f);
+    assertEquals(-1.5f, HalfFloats.halfToFloat((short)0xBE00), 0.0f);
+  }
+
+  @Test
+  public void bfloat16Conversions() {
+    assertEquals((short)0x3F80, HalfFloats.floatToBFloat16(1.0f));
+    assertEquals((short)0x3F80, HalfFloats.floatToBFloat16(1.0f + 0x1p-8f));  // ties to even
+    assertEquals((short)0x3F81, HalfFloats.floatToBFloat16(1.0f + 0x1p-8f + 0x1p-20f));
+    assertEquals((short)0x7F80, HalfFloats.floatToBFloat16(Float.POSITIVE_INFINITY));
+    assertTrue(Float.isNaN(HalfFloats.bfloat16ToFloat(HalfFloats.floatToBFloat16(Float.NaN))));
+    assertEquals(-2.0f, HalfFloats.bfloat16ToFloat((short)0xC000), 0.0f);
+  }
+
+  @Test
+  public void bulkConversions() {
+    float[] values = new float[] { 0.5f, -1.0f, 3.0f, 1024.0f };
+    short[] halfs = new short[5];
+    HalfFloats.floatToHalf(values, 1, halfs, 2, 3);
+    float[] result = new float[3];
+    HalfFloats.halfToFloat(halfs, 2, result, 0, 3);
+    assertEquals(-1.0f, result[0], 0.0f);
+    assertEquals(1024.0f, result[2], 0.0f);
+
+    FloatDataBuffer buffer = DataBuffers.wrapBFloat16s(new short[4], false);
+    buffer.put(values);
+    assertEquals(3.0f, buffer.get(2), 0.0f);
+    float[] read = new float[4];
+    buffer.rewind().get(read);
+    assertEquals(0.5f, read[0], 0.0f);
+    assertEquals(1024.0f, read[3], 0.0f);
+  }
+}
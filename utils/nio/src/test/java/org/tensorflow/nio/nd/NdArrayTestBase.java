@@ -223,6 +223,168 @@ public abstract class NdArrayTestBase<T> {
     assertEquals(val102, scalar102.get());
   }
 
+  @Test
+  public void broadcasting() {
+    NdArray<T> vector = allocate(shape(3));
+    vector.set(valueOf(1L), 0);
+    vector.set(valueOf(2L), 1);
+    vector.set(valueOf(3L), 2);
+
+    NdArray<T> matrix = vector.broadcastTo(shape(4, 3));
+    assertEquals(shape(4, 3), matrix.shape());
+    assertEquals(valueOf(1L), matrix.get(0, 0));
+    assertEquals(valueOf(3L), matrix.get(3, 2));
+    assertEquals(valueOf(2L), matrix.at(2).get(1));
+
+    NdArray<T> dst = allocate(shape(4, 3));
+    matrix.copyTo(dst);
+    assertEquals(valueOf(1L), dst.get(1, 0));
+    assertEquals(valueOf(3L), dst.get(3, 2));
+
+    DataBuffer<T> buffer = allocateBuffer(12L);
+    matrix.read(buffer);
+    assertEquals(valueOf(1L), buffer.get(0));
+    assertEquals(valueOf(2L), buffer.get(4));
+    assertEquals(valueOf(3L), buffer.get(11));
+
+    NdArray<T> column = allocate(shape(2, 1));
+    column.set(valueOf(5L), 0, 0);
+    column.set(valueOf(6L), 1, 0);
+    NdArray<T> expanded = column.broadcastTo(shape(3, 2, 4));
+    assertEquals(valueOf(5L), expanded.get(2, 0, 3));
+    assertEquals(valueOf(6L), expanded.get(0, 1, 2));
+
+    vector.set(valueOf(10L), 1);
+    assertEquals(valueOf(10L), matrix.get(3, 1));
+
+    try {
+      vector.broadcastTo(shape(4, 2));
+      fail();
+    } catch (IllegalArgumentException e) {
+      // as expected
+    }
+    try {
+      matrix.broadcastTo(shape(3));
+      fail();
+    } catch (IllegalArgumentException e) {
+      // as expected
+    }
+  }
+
+  @Test
+  public void transposeAndReshape() {
+    NdArray<T> matrix3d = allocate(shape(2, 3, 4));
+    long val = 0L;
+    for (ValueIterator<T> iter = matrix3d.values().iterator(); iter.hasNext();) {
+      iter.next(valueOf(val++));
+    }
+
+    NdArray<T> transposed = matrix3d.transpose(2, 0, 1);
+    assertEquals(shape(4, 2, 3), transposed.shape());
+    assertEquals(valueOf(0L), transposed.get(0, 0, 0));
+    assertEquals(valueOf(23L), transposed.get(3, 1, 2));
+    assertEquals(matrix3d.get(1, 2, 0), transposed.get(0, 1, 2));
+    transposed.set(valueOf(100L), 1, 0, 2);
+    assertEquals(valueOf(100L), matrix3d.get(0, 2, 1));
+
+    DataBuffer<T> buffer = allocateBuffer(24L);
+    matrix3d.transpose(1, 0, 2).read(buffer);
+    assertEquals(valueOf(0L), buffer.get(0));
+    assertEquals(valueOf(12L), buffer.get(4));
+    assertEquals(valueOf(4L), buffer.get(8));
+
+    NdArray<T> reshaped = matrix3d.reshape(shape(6, 4));
+    assertEquals(shape(6, 4), reshaped.shape());
+    assertEquals(valueOf(4L), reshaped.get(1, 0));
+    assertEquals(valueOf(23L), reshaped.get(5, 3));
+    reshaped.set(valueOf(200L), 5, 3);
+    assertEquals(valueOf(200L), matrix3d.get(1, 2, 3));  // view
+
+    NdArray<T> transposedReshaped = transposed.reshape(shape(8, 3));
+    assertEquals(valueOf(0L), transposedReshaped.get(0, 0));
+    assertEquals(valueOf(12L), transposedReshaped.get(1, 0));
+    assertEquals(valueOf(1L), transposedReshaped.get(2, 0));
+    transposedReshaped.set(valueOf(300L), 0, 0);
+    assertEquals(valueOf(0L), matrix3d.get(0, 0, 0));  // copy
+
+    NdArray<T> dst = allocate(shape(4, 2, 3));
+    transposed.copyTo(dst);
+    assertEquals(valueOf(100L), dst.get(1, 0, 2));
+    assertEquals(valueOf(200L), dst.get(3, 1, 2));
+
+    try {
+      matrix3d.reshape(shape(5, 5));
+      fail();
+    } catch (IllegalArgumentException e) {
+      // as expected
+    }
+    try {
+      matrix3d.transpose(0, 1);
+      fail();
+    } catch (IllegalArgumentException e) {
+      // as expected
+    }
+    try {
+      matrix3d.transpose(0, 1, 1);
+      fail();
+    } catch (IllegalArgumentException e) {
+      // as expected
+    }
+  }
+
+  @Test
+  public void gather() {
+    NdArray<T> matrix3d = allocate(shape(5, 2, 3));
+    long val = 0L;
+    for (ValueIterator<T> iter = matrix3d.values().iterator(); iter.hasNext();) {
+      iter.next(valueOf(val++));
+    }
+    long[] indices = new long[] { 4, 0, 4, 2 };
+
+    NdArray<T> dst = allocate(shape(4, 2, 3));
+    matrix3d.gather(indices, dst, false);
+    assertEquals(valueOf(24L), dst.get(0, 0, 0));
+    assertEquals(valueOf(5L), dst.get(1, 1, 2));
+    assertEquals(valueOf(29L), dst.get(2, 1, 2));
+    assertEquals(valueOf(12L), dst.get(3, 0, 0));
+
+    NdArray<T> parallelDst = allocate(shape(4, 2, 3));
+    matrix3d.gather(indices, parallelDst, true);
+    NdArray<T> sliced = matrix3d.slice(seq(indices));
+    for (long i = 0; i < 4; ++i) {
+      for (long j = 0; j < 2; ++j) {
+        for (long k = 0; k < 3; ++k) {
+          assertEquals(dst.get(i, j, k), parallelDst.get(i, j, k));
+          assertEquals(dst.get(i, j, k), sliced.get(i, j, k));
+        }
+      }
+    }
+
+    NdArray<T> transposedDst = allocate(shape(4, 3, 2));
+    matrix3d.transpose(0, 2, 1).gather(indices, transposedDst, false);
+    assertEquals(valueOf(27L), transposedDst.get(0, 0, 1));
+    assertEquals(valueOf(13L), transposedDst.get(3, 1, 0));
+
+    NdArray<T> vectorDst = allocate(shape(4));
+    matrix3d.at(1, 1).gather(new long[] { 2, 0, 2, 1 }, vectorDst, false);
+    assertEquals(valueOf(11L), vectorDst.get(0));
+    assertEquals(valueOf(9L), vectorDst.get(1));
+    assertEquals(valueOf(10L), vectorDst.get(3));
+
+    try {
+      matrix3d.gather(indices, allocate(shape(3, 2, 3)), false);
+      fail();
+    } catch (IllegalArgumentException e) {
+      // as expected
+    }
+    try {
+      matrix3d.gather(new long[] { 5 }, allocate(shape(1, 2, 3)), false);
+      fail();
+    } catch (IndexOutOfBoundsException e) {
+      // as expected
+    }
+  }
+
   @Test
   public void writeAndReadWithBuffers() {
     DataBuffer<T> buffer = allocateBuffer(15L);
@@ -0,0 +1,191 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.nd.impl.ragged;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+import static org.tensorflow.nio.StaticApi.*;
+
+import org.junit.Test;
+import org.tensorflow.nio.buffer.DataBuffer;
+import org.tensorflow.nio.nd.IllegalRankException;
+import org.tensorflow.nio.nd.NdArray;
+import org.tensorflow.nio.nd.RaggedNdArray;
+import org.tensorflow.nio.nd.Shape;
+
+public class RowSplitsNdArrayTest {
+
+  @Test
+  public void accessRowsAndValues() {
+    // Rows [[0, 1], [2, 3], [4, 5]], [[6, 7]], [[8, 9], [10, 11]]
+    DataBuffer<Long> values = bufferOf(Long.class, 12);
+    for (long i = 0; i < 12; ++i) {
+      values.put(i, i);
+    }
+    RaggedNdArray<Long> array = ndArrayOf(values, bufferOf(new long[] { 0L, 3L, 4L, 6L }, false),
+        shape(3, Shape.UNKNOWN_SIZE, 2));
+
+    assertEquals(3, array.rank());
+    assertEquals(12L, array.size());
+    assertEquals(3L, array.rowLength(0));
+    assertEquals(1L, array.rowLength(1));
+    assertEquals(2L, array.rowLength(2));
+
+    NdArray<Long> row = array.at(1);
+    assertEquals(shape(1, 2), row.shape());
+    assertEquals(Long.valueOf(6L), row.get(0, 0));
+    assertEquals(Long.valueOf(7L), row.get(0, 1));
+    assertEquals(Long.valueOf(5L), array.get(0, 2, 1));
+    assertEquals(Long.valueOf(10L), array.at(2, 1).get(0));
+
+    array.set(100L, 2, 0, 1);
+    assertEquals(Long.valueOf(100L), values.get(9));
+    array.at(0).set(200L, 1, 0);
+    assertEquals(Long.valueOf(200L), array.get(0, 1, 0));
+
+    long expected = 0L;
+    for (NdArray<Long> r : array.childElements()) {
+      for (Long value : r.values()) {
+        if (expected == 2L || expected == 9L) {
+          ++expected;  // overwritten above
+          continue;
+        }
+        assertEquals(Long.valueOf(expected++), value);
+      }
+    }
+    assertEquals(12L, expected);
+
+    try {
+      array.get(1, 1, 0);
+      fail();
+    } catch (IndexOutOfBoundsException e) {
+      // as expected
+    }
+    try {
+      array.get(3, 0, 0);
+      fail();
+    } catch (IndexOutOfBoundsException e) {
+      // as expected
+    }
+    try {
+      array.get(0, 0);
+      fail();
+    } catch (IllegalRankException e) {
+      // as expected
+    }
+  }
+
+  @Test
+  public void flatValuesAndRowSplits() {
+    RaggedNdArray<String> array = ndArrayOf(bufferOf(new String[] { "a", "b", "c", "d" }, false),
+        bufferOf(new long[] { 0L, 1L, 1L, 4L }, false), shape(3, Shape.UNKNOWN_SIZE));
+
+    assertEquals(shape(4), array.flatValues().shape());
+    assertEquals("c", array.flatValues().get(2));
+    assertEquals(shape(4), array.rowSplits().shape());
+    assertEquals(Long.valueOf(4L), array.rowSplits().get(3));
+    assertEquals(0L, array.rowLength(1));
+
+    String[] read = new String[4];
+    array.read(read);
+    assertEquals("a", read[0]);
+    assertEquals("d", read[3]);
+
+    RaggedNdArray<String> copy = ndArrayOf(bufferOf(String.class, 4),
+        bufferOf(new long[] { 0L, 1L, 1L, 4L }, false), shape(3, Shape.UNKNOWN_SIZE));
+    array.copyTo(copy);
+    assertEquals("b", copy.get(2, 0));
+
+    RaggedNdArray<String> otherLayout = ndArrayOf(bufferOf(String.class, 4),
+        bufferOf(new long[] { 0L, 2L, 2L, 4L }, false), shape(3, Shape.UNKNOWN_SIZE));
+    try {
+      array.copyTo(otherLayout);
+      fail();
+    } catch (IllegalArgumentException e) {
+      // as expected
+    }
+  }
+
+  @Test
+  public void emptyRows() {
+    // Rows [["a"], [], ["b", "c"], []]
+    RaggedNdArray<String> array = ndArrayOf(bufferOf(new String[] { "a", "b", "c" }, false),
+        bufferOf(new long[] { 0L, 1L, 1L, 3L, 3L }, false), shape(4, Shape.UNKNOWN_SIZE));
+
+    NdArray<String> row = array.at(1);
+    assertEquals(0L, row.size());
+    assertEquals(shape(0), row.shape());
+    assertFalse(row.values().iterator().hasNext());
+    assertFalse(row.childElements().iterator().hasNext());
+    assertEquals(0L, array.at(3).size());
+    try {
+      row.get(0);
+      fail();
+    } catch (IndexOutOfBoundsException e) {
+      // as expected
+    }
+    try {
+      array.get(3, 0);
+      fail();
+    } catch (IndexOutOfBoundsException e) {
+      // as expected
+    }
+
+    StringBuilder values = new StringBuilder();
+    long[] rowSizes = new long[4];
+    int i = 0;
+    for (NdArray<String> r : array.childElements()) {
+      rowSizes[i++] = r.size();
+      for (String value : r.values()) {
+        values.append(value);
+      }
+    }
+    assertArrayEquals(new long[] { 1L, 0L, 2L, 0L }, rowSizes);
+    assertEquals("abc", values.toString());
+  }
+
+  @Test
+  public void invalidLayouts() {
+    DataBuffer<String> values = bufferOf(String.class, 4);
+    try {
+      ndArrayOf(values, bufferOf(new long[] { 0L, 4L }, false), shape(2, Shape.UNKNOWN_SIZE));
+      fail();
+    } catch (IllegalArgumentException e) {
+      // as expected
+    }
+    try {
+      ndArrayOf(values, bufferOf(new long[] { 0L, 3L, 2L }, false), shape(2, Shape.UNKNOWN_SIZE));
+      fail();
+    } catch (IllegalArgumentException e) {
+      // as expected
+    }
+    try {
+      ndArrayOf(values, bufferOf(new long[] { 0L, 2L, 5L }, false), shape(2, Shape.UNKNOWN_SIZE));
+      fail();
+    } catch (IllegalArgumentException e) {
+      // as expected
+    }
+    try {
+      ndArrayOf(values, bufferOf(new long[] { 0L, 2L, 4L }, false), shape(2, 2));
+      fail();
+    } catch (IllegalArgumentException e) {
+      // as expected
+    }
+  }
+}